@@ -0,0 +1,11 @@
+package com.modswiskim.springbootlearn.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveBlogApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveBlogApplication.class, args);
+    }
+}
@@ -0,0 +1,41 @@
+package com.modswiskim.springbootlearn.reactive.config;
+
+import com.modswiskim.springbootlearn.config.jwt.JwtProperties;
+import com.modswiskim.springbootlearn.config.jwt.TokenAuthenticationCache;
+import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+// WebOAuthSecurityConfig 와 같은 규칙 : 세션 없이 토큰으로 인증하고, /api/** 는 인증이 필요하며 실패하면 401
+// 토큰 발급(OAuth2 로그인)은 루트 애플리케이션에서 하고, 여기서는 발급된 액세스 토큰만 검증한다
+@EnableWebFluxSecurity
+@EnableConfigurationProperties(JwtProperties.class)
+@Import({TokenProvider.class, TokenAuthenticationCache.class})
+@Configuration
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, TokenAuthenticationCache tokenAuthenticationCache) {
+        return http.csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable()
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .addFilterAt(new TokenAuthenticationWebFilter(tokenAuthenticationCache), SecurityWebFiltersOrder.AUTHENTICATION)
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/api/**").authenticated()
+                        .anyExchange().permitAll())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.modswiskim.springbootlearn.reactive.config;
+
+import com.modswiskim.springbootlearn.config.jwt.TokenAuthenticationCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// TokenAuthenticationFilter 의 WebFlux 버전 : 검증한 인증 정보를 SecurityContext 대신 Reactor Context 에 담는다
+// 토큰 검증은 HMAC 계산뿐이라 이벤트 루프에서 바로 처리한다
+@RequiredArgsConstructor
+public class TokenAuthenticationWebFilter implements WebFilter {
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final static String TOKEN_PREFIX = "Bearer ";  // RFC 6750 : 스킴 이름은 대소문자를 구분하지 않는다
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = getAccessToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        Authentication authentication = tokenAuthenticationCache.getAuthentication(token);
+        if(authentication == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private String getAccessToken(String authorizationHeader) {
+        if(authorizationHeader != null
+                && authorizationHeader.regionMatches(true, 0, TOKEN_PREFIX, 0, TOKEN_PREFIX.length())) {
+            return authorizationHeader.substring(TOKEN_PREFIX.length()).trim();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.modswiskim.springbootlearn.reactive.controller;
+
+import com.modswiskim.springbootlearn.dto.AddArticleRequest;
+import com.modswiskim.springbootlearn.dto.ArticleResponse;
+import com.modswiskim.springbootlearn.dto.UpdateArticleRequest;
+import com.modswiskim.springbootlearn.reactive.domain.ArticleRecord;
+import com.modswiskim.springbootlearn.reactive.service.ReactiveBlogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+
+// BlogApiController 의 /api/articles CRUD 와 같은 요청 / 응답 형식
+@RequiredArgsConstructor
+@RestController
+public class ReactiveBlogApiController {
+
+    private final ReactiveBlogService reactiveBlogService;
+
+    @PostMapping("/api/articles")
+    public Mono<ResponseEntity<ArticleRecord>> addArticle(@RequestBody AddArticleRequest request, Principal principal) {
+        return reactiveBlogService.save(request, principal.getName())
+                .map(savedArticle -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(savedArticle));
+    }
+
+    // 글 조회 : 목록을 모으지 않고 한 건씩 응답에 쓴다
+    // Accept: application/x-ndjson 이면 한 줄에 글 하나씩, 아니면 JSON 배열로 내려준다
+    @GetMapping(value = "/api/articles", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ArticleResponse> findAllArticles() {
+        return reactiveBlogService.findAll()
+                .map(article -> new ArticleResponse(article.getTitle(), article.getContent()));
+    }
+
+    @GetMapping("/api/articles/{id}")
+    public Mono<ResponseEntity<ArticleResponse>> findArticle(@PathVariable long id) {
+        return reactiveBlogService.findById(id)
+                .map(article -> ResponseEntity.ok()
+                        .body(new ArticleResponse(article.getTitle(), article.getContent())));
+    }
+
+    @DeleteMapping("/api/articles/{id}")
+    public Mono<ResponseEntity<Void>> deleteArticle(@PathVariable long id, Principal principal) {
+        return reactiveBlogService.delete(id, principal.getName())
+                .then(Mono.just(ResponseEntity.ok()
+                        .build()));
+    }
+
+    @PutMapping("/api/articles/{id}")
+    public Mono<ResponseEntity<ArticleRecord>> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request,
+                                                             Principal principal) {
+        return reactiveBlogService.update(id, request, principal.getName())
+                .map(updatedArticle -> ResponseEntity.ok()
+                        .body(updatedArticle));
+    }
+}
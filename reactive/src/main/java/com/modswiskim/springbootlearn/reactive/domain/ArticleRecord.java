@@ -0,0 +1,43 @@
+package com.modswiskim.springbootlearn.reactive.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// article 테이블의 한 행 (R2DBC 매핑). 루트 프로젝트의 Article 엔티티와 같은 테이블을 사용한다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("article")
+public class ArticleRecord {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String content;
+
+    private String author;
+
+    @Version    // 루트 프로젝트와 같은 낙관적 락 컬럼
+    private Long version;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    public void update(String title, String content, LocalDateTime updatedAt) {
+        this.title = title;
+        this.content = content;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.modswiskim.springbootlearn.reactive.repository;
+
+import com.modswiskim.springbootlearn.reactive.domain.ArticleRecord;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ArticleRecordRepository extends ReactiveCrudRepository<ArticleRecord, Long> {
+
+    // 작성 순서대로 한 행씩 흘려보낸다 (구독자가 요청한 만큼만 읽음)
+    @Query("SELECT * FROM article ORDER BY created_at, id")
+    Flux<ArticleRecord> streamAll();
+
+    // 루트 프로젝트의 data.sql 과 같이 시퀀스에서 id 를 받는다
+    @Query("SELECT NEXT VALUE FOR article_seq")
+    Mono<Long> nextId();
+}
@@ -0,0 +1,74 @@
+package com.modswiskim.springbootlearn.reactive.service;
+
+import com.modswiskim.springbootlearn.dto.AddArticleRequest;
+import com.modswiskim.springbootlearn.dto.UpdateArticleRequest;
+import com.modswiskim.springbootlearn.reactive.domain.ArticleRecord;
+import com.modswiskim.springbootlearn.reactive.repository.ArticleRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+// BlogService 의 글 CRUD 를 논블로킹으로 구현. 메시지는 BlogService 와 같고,
+// 없는 글과 작성자가 아닌 경우는 ResponseStatusException 으로 404 / 403 을 응답한다
+@RequiredArgsConstructor
+@Service
+public class ReactiveBlogService {
+
+    private static final int STREAM_PREFETCH = 256;     // DB 에서 미리 읽어 둘 최대 행 수
+
+    private final ArticleRecordRepository articleRecordRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+
+    // 블로그 글 추가 : 시퀀스에서 받은 id 로 insert
+    public Mono<ArticleRecord> save(AddArticleRequest request, String username) {
+        return articleRecordRepository.nextId()
+                .flatMap(id -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    return entityTemplate.insert(new ArticleRecord(id, request.getTitle(), request.getContent(),
+                            username, null, now, now));
+                });
+    }
+
+    // 블로그 글 전체 조회 : 응답을 쓰는 속도에 맞춰 DB 에서 읽는다 (backpressure)
+    public Flux<ArticleRecord> findAll() {
+        return articleRecordRepository.streamAll()
+                .limitRate(STREAM_PREFETCH);
+    }
+
+    public Mono<ArticleRecord> findById(long id) {
+        return articleRecordRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "not found: " + id)));
+    }
+
+    @Transactional
+    public Mono<Void> delete(long id, String username) {
+        return findById(id)
+                .flatMap(article -> authorizeArticleAuthor(article, username))
+                .flatMap(articleRecordRepository::delete);
+    }
+
+    @Transactional
+    public Mono<ArticleRecord> update(long id, UpdateArticleRequest request, String username) {
+        return findById(id)
+                .flatMap(article -> authorizeArticleAuthor(article, username))
+                .flatMap(article -> {
+                    article.update(request.getTitle(), request.getContent(), LocalDateTime.now());
+                    return entityTemplate.update(article);
+                });
+    }
+
+    // 게시글을 작성한 유저인지 확인
+    private static Mono<ArticleRecord> authorizeArticleAuthor(ArticleRecord article, String username) {
+        if(!article.getAuthor().equals(username)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.FORBIDDEN, "not authorized"));
+        }
+        return Mono.just(article);
+    }
+}
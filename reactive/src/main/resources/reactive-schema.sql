@@ -0,0 +1,14 @@
+-- 루트 프로젝트에서 Hibernate 가 Article 엔티티로 만드는 스키마와 같은 구조
+CREATE SEQUENCE IF NOT EXISTS article_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS article (
+    id BIGINT NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    content VARCHAR(255) NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_article_created_at_id ON article (created_at, id);
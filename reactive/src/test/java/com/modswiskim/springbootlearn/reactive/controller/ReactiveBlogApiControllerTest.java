@@ -0,0 +1,142 @@
+package com.modswiskim.springbootlearn.reactive.controller;
+
+import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
+import com.modswiskim.springbootlearn.domain.User;
+import com.modswiskim.springbootlearn.dto.AddArticleRequest;
+import com.modswiskim.springbootlearn.reactive.domain.ArticleRecord;
+import com.modswiskim.springbootlearn.reactive.repository.ArticleRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "jwt.issuer=test@springboot-learn",
+        "jwt.secret_key=reactive-test-secret"})
+@AutoConfigureWebTestClient
+class ReactiveBlogApiControllerTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    ArticleRecordRepository articleRecordRepository;
+
+    @Autowired
+    TokenProvider tokenProvider;
+
+    String token;
+
+    @BeforeEach
+    void setUp() {
+        articleRecordRepository.deleteAll().block();
+        token = tokenProvider.generateToken(User.builder()
+                .email("user@gmail.com")
+                .password("password")
+                .build(), Duration.ofHours(1));
+    }
+
+    @DisplayName("addArticle : 토큰으로 인증한 사용자가 블로그 글 추가에 성공한다.")
+    @Test
+    public void addArticle() {
+        // given
+        AddArticleRequest request = new AddArticleRequest("title", "content");
+
+        // when
+        ArticleRecord savedArticle = webTestClient.post().uri("/api/articles")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ArticleRecord.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        assertThat(savedArticle.getAuthor()).isEqualTo("user@gmail.com");
+        webTestClient.get().uri("/api/articles/{id}", savedArticle.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("title")
+                .jsonPath("$.content").isEqualTo("content");
+    }
+
+    @DisplayName("findAllArticles : 블로그 글 목록을 NDJSON 으로 한 건씩 내려준다.")
+    @Test
+    public void findAllArticles_ndjson() {
+        // given
+        webTestClient.post().uri("/api/articles")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new AddArticleRequest("title1", "content1"))
+                .exchange()
+                .expectStatus().isCreated();
+        webTestClient.post().uri("/api/articles")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new AddArticleRequest("title2", "content2"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        // when
+        List<Map> articles = webTestClient.get().uri("/api/articles")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Map.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(articles).extracting(article -> article.get("title")).containsExactly("title1", "title2");
+    }
+
+    @DisplayName("findArticle / deleteArticle : 없는 글은 404, 작성자가 아니면 403 을 응답한다.")
+    @Test
+    public void notFoundAndForbidden() {
+        // given : 다른 사용자의 토큰과, 그 사용자가 쓰지 않은 글
+        String otherToken = tokenProvider.generateToken(User.builder()
+                .email("other@gmail.com")
+                .password("password")
+                .build(), Duration.ofHours(1));
+        ArticleRecord savedArticle = webTestClient.post().uri("/api/articles")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new AddArticleRequest("title", "content"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ArticleRecord.class)
+                .returnResult()
+                .getResponseBody();
+
+        // when & then
+        webTestClient.get().uri("/api/articles/{id}", savedArticle.getId() + 1000)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.delete().uri("/api/articles/{id}", savedArticle.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @DisplayName("findAllArticles : 토큰이 없으면 401 을 응답한다.")
+    @Test
+    public void findAllArticles_unauthorized() {
+        webTestClient.get().uri("/api/articles")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
@@ -0,0 +1,64 @@
+package com.modswiskim.springbootlearn;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크에서 사용할 애플리케이션 컨텍스트를 띄우고 테스트 데이터를 채우는 도우미
+public final class BenchmarkContexts {
+
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private BenchmarkContexts() {
+    }
+
+    // 임의 포트, 인메모리 H2, 임시 디렉터리의 검색 색인으로 애플리케이션을 띄운다
+    // 한 클라이언트가 계속 요청하므로 요청 수 제한은 끈다 (켜려면 properties 로 rate-limit.enabled=true)
+    public static ConfigurableApplicationContext start(String... properties) {
+        String indexDir;
+        try {
+            indexDir = Files.createTempDirectory("article-index").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new SpringApplicationBuilder(SpringBootLearnApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=warn",
+                        "jwt.issuer=benchmark@springboot-learn",
+                        "jwt.secret_key=benchmark-secret",
+                        "spring.security.oauth2.client.registration.google.client-id=benchmark",
+                        "spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                        "spring.security.oauth2.client.registration.google.scope=email,profile",
+                        "search.index-dir=" + indexDir,
+                        "rate-limit.enabled=false")
+                .properties(properties)
+                .run();
+    }
+
+    // article 테이블에 rows 개의 글을 JDBC 배치로 채운다
+    public static void seedArticles(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for(int i = 0; i < rows; i++) {
+            batch.add(new Object[]{"제목" + i, "내용" + i + " ".repeat(200), "user" + (i % 100), now, now});
+            if(batch.size() == INSERT_BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO article (id, title, content, author, version, created_at, updated_at)"
+                        + " VALUES (NEXT VALUE FOR article_seq, ?, ?, ?, 0, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
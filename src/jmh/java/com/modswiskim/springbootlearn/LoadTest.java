@@ -0,0 +1,159 @@
+package com.modswiskim.springbootlearn;
+
+import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
+import com.modswiskim.springbootlearn.domain.User;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 플랫폼 스레드 / 가상 스레드 요청 처리 모드의 처리량과 p99 응답 시간을 비교하는 부하 테스트 (./gradlew loadTest)
+// 모드마다 애플리케이션을 새로 띄우고, clients 개의 클라이언트 스레드가 쉬지 않고 글 조회 API 를 호출한다
+// 옵션 : clients, seconds, warmup, rows, threads(Tomcat 최대 스레드), pool(커넥션 풀 크기)
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Integer> options = new HashMap<>(Map.of(
+                "clients", 400, "seconds", 20, "warmup", 5, "rows", 10_000, "threads", 200, "pool", 10));
+        for(String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if(pair.length != 2 || !options.containsKey(pair[0])) {
+                throw new IllegalArgumentException("Unknown option : " + arg + " (options : " + options.keySet() + ")");
+            }
+            options.put(pair[0], Integer.parseInt(pair[1]));
+        }
+
+        List<Boolean> modes = Runtime.version().feature() >= 21 ? List.of(false, true) : List.of(false);
+        if(modes.size() == 1) {
+            System.out.println("Java " + Runtime.version().feature() + " : virtual thread mode needs Java 21 (run with -PvirtualThreads)");
+        }
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-8s %10s %10s %10s %10s %8s", "mode", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors"));
+        for(boolean virtual : modes) {
+            report.add(run(virtual, options));
+        }
+        System.out.println(options);
+        report.forEach(System.out::println);
+    }
+
+    private static String run(boolean virtual, Map<String, Integer> options) throws Exception {
+        ConfigurableApplicationContext context = BenchmarkContexts.start(
+                "spring.threads.virtual.enabled=" + virtual,
+                "server.tomcat.threads.max=" + options.get("threads"),
+                "spring.datasource.hikari.maximum-pool-size=" + options.get("pool"));
+        try {
+            BenchmarkContexts.seedArticles(context, options.get("rows"));
+            List<Long> ids = context.getBean(JdbcTemplate.class).queryForList("SELECT id FROM article", Long.class);
+            String token = context.getBean(TokenProvider.class).generateToken(User.builder()
+                    .email("loadtest@gmail.com")
+                    .build(), Duration.ofHours(1));
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            Client client = new Client(baseUrl, token, ids);
+            client.drive(options.get("clients"), options.get("warmup"));
+            Result result = client.drive(options.get("clients"), options.get("seconds"));
+
+            return String.format("%-8s %10.0f %10.2f %10.2f %10.2f %8d", virtual ? "virtual" : "platform",
+                    result.latencies.length / (double) options.get("seconds"),
+                    result.percentile(0.50), result.percentile(0.99), result.percentile(1.0), result.errors);
+        } finally {
+            context.close();
+        }
+    }
+
+    // 목록 페이지 조회(DB)와 단일 글 조회(캐시)를 7:3 으로 섞어서 호출
+    private record Client(String baseUrl, String token, List<Long> ids) {
+
+        Result drive(int clients, int seconds) throws Exception {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+            ExecutorService executor = Executors.newFixedThreadPool(clients);
+            try {
+                List<Future<Result>> futures = new ArrayList<>(clients);
+                for(int i = 0; i < clients; i++) {
+                    futures.add(executor.submit(() -> call(httpClient, deadline)));
+                }
+
+                List<Result> results = new ArrayList<>(clients);
+                for(Future<Result> future : futures) {
+                    results.add(future.get());
+                }
+                return Result.merge(results);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private Result call(HttpClient httpClient, long deadline) {
+            long[] latencies = new long[1024];
+            int count = 0;
+            int errors = 0;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            while(System.nanoTime() < deadline) {
+                String path = random.nextInt(10) < 7
+                        ? "/api/articles?size=20"
+                        : "/api/articles/" + ids.get(random.nextInt(ids.size()));
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("Authorization", "Bearer" + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    if(response.statusCode() != 200) {
+                        errors++;
+                        continue;
+                    }
+                } catch (Exception e) {
+                    errors++;
+                    continue;
+                }
+                if(count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+            return new Result(Arrays.copyOf(latencies, count), errors);
+        }
+    }
+
+    private record Result(long[] latencies, int errors) {
+
+        static Result merge(List<Result> results) {
+            long[] latencies = results.stream()
+                    .flatMapToLong(result -> Arrays.stream(result.latencies))
+                    .sorted()
+                    .toArray();
+            return new Result(latencies, results.stream().mapToInt(Result::errors).sum());
+        }
+
+        double percentile(double percentile) {
+            if(latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
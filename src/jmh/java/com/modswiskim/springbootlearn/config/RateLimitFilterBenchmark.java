@@ -0,0 +1,73 @@
+package com.modswiskim.springbootlearn.config;
+
+import com.modswiskim.springbootlearn.config.ratelimit.InMemoryRateLimiterBackend;
+import com.modswiskim.springbootlearn.config.ratelimit.RateLimitFilter;
+import com.modswiskim.springbootlearn.config.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// RateLimitFilter 한 번 통과하는 비용 (요청당 오버헤드)
+// disabled : 필터만 거치고 제한하지 않음 (기준값), hotKey : 모든 스레드가 같은 버킷을 두고 CAS 경합,
+// manyKeys : 스레드마다 1M 개 IP 중 무작위로 골라 버킷 맵의 조회/생성/제거 비용까지 포함
+@State(Scope.Benchmark)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+    private static final int CLIENTS = 1_000_000;
+
+    @Param({"disabled", "hotKey", "manyKeys"})
+    private String mode;
+
+    private RateLimitFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(!mode.equals("disabled"));
+        // 한도에 걸려도 비용은 같으므로 측정 중에 거절되지 않을 만큼 크게 잡는다
+        properties.setRoutes(List.of(new RateLimitProperties.Route("api", "/api/**", List.of(), 1_000_000_000L, Duration.ofSeconds(1))));
+        filter = new RateLimitFilter(properties,
+                new InMemoryRateLimiterBackend(properties.getMaxKeys(), properties.getIdleTimeout()),
+                new SimpleMeterRegistry());
+    }
+
+    // 요청/응답 객체는 스레드마다 따로 사용
+    @State(Scope.Thread)
+    public static class Exchange {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            request = new MockHttpServletRequest("GET", "/api/articles");
+            request.setServletPath("/api/articles");
+            request.setRemoteAddr("10.0.0.1");
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public int doFilter(Exchange exchange) throws ServletException, IOException {
+        if(mode.equals("manyKeys")) {
+            exchange.request.setRemoteAddr("10.0.0." + ThreadLocalRandom.current().nextInt(CLIENTS));
+        }
+        filter.doFilter(exchange.request, exchange.response, NO_OP_CHAIN);
+        return exchange.response.getStatus();
+    }
+}
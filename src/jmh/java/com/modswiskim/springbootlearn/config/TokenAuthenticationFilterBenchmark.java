@@ -0,0 +1,75 @@
+package com.modswiskim.springbootlearn.config;
+
+import com.modswiskim.springbootlearn.config.jwt.JwtProperties;
+import com.modswiskim.springbootlearn.config.jwt.TokenAuthenticationCache;
+import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
+import com.modswiskim.springbootlearn.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// TokenAuthenticationFilter 한 번 통과하는 비용을 인증 정보 캐시 사용/미사용으로 비교
+// 여러 요청 스레드가 같은 필터(캐시)를 공유하는 상황을 재현하기 위해 4개 스레드로 실행
+@State(Scope.Benchmark)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private TokenAuthenticationFilter filter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("benchmark@springboot-learn");
+        jwtProperties.setSecretKey("benchmark-secret");
+        jwtProperties.getCache().setEnabled(cacheEnabled);
+
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new TokenAuthenticationFilter(
+                new TokenAuthenticationCache(tokenProvider, jwtProperties, meterRegistry), meterRegistry);
+        token = tokenProvider.generateToken(User.builder()
+                .email("user@gmail.com")
+                .build(), Duration.ofHours(1));
+    }
+
+    // 요청/응답 객체는 스레드마다 따로 사용
+    @State(Scope.Thread)
+    public static class Exchange {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp(TokenAuthenticationFilterBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/api/articles");
+            request.addHeader("Authorization", "Bearer" + benchmark.token);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public Object doFilter(Exchange exchange) throws ServletException, IOException {
+        filter.doFilter(exchange.request, exchange.response, NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,87 @@
+package com.modswiskim.springbootlearn.config.jwt;
+
+import com.modswiskim.springbootlearn.domain.User;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// TokenProvider 단위 비용 : 토큰 발급, 검증(정상/만료/서명 불일치), 클레임 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenProviderBenchmark {
+
+    private static final String ISSUER = "benchmark@springboot-learn";
+    private static final String SECRET_KEY = "benchmark-secret";
+
+    private TokenProvider tokenProvider;
+    private User user;
+    private String validToken;
+    private String expiredToken;
+    private String badSignatureToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer(ISSUER);
+        jwtProperties.setSecretKey(SECRET_KEY);
+
+        tokenProvider = new TokenProvider(jwtProperties);
+        user = User.builder()
+                .email("user@gmail.com")
+                .build();
+        validToken = tokenProvider.generateToken(user, Duration.ofHours(1));
+        expiredToken = createToken(SECRET_KEY, new Date(System.currentTimeMillis() - Duration.ofDays(1).toMillis()));
+        badSignatureToken = createToken("other-secret", new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user, Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public boolean validToken_valid() {
+        return tokenProvider.validToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validToken_expired() {
+        return tokenProvider.validToken(expiredToken);
+    }
+
+    @Benchmark
+    public boolean validToken_badSignature() {
+        return tokenProvider.validToken(badSignatureToken);
+    }
+
+    @Benchmark
+    public Object getAuthentication() {
+        return tokenProvider.getAuthentication(validToken);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return tokenProvider.getUserId(validToken);
+    }
+
+    private static String createToken(String secretKey, Date expiration) {
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuer(ISSUER)
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .setSubject("user@gmail.com")
+                .claim("id", 1L)
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+    }
+}
@@ -0,0 +1,55 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.BenchmarkContexts;
+import com.modswiskim.springbootlearn.dto.AddArticleRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 글 한 건씩 저장(기존 POST /api/articles 경로)과 일괄 저장(POST /api/articles/batch 경로)의 초당 저장 건수 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ArticleBatchInsertBenchmark.ROWS)  // 결과 단위 : rows/sec
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ArticleBatchInsertBenchmark {
+
+    static final int ROWS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private List<AddArticleRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        blogService = context.getBean(BlogService.class);
+
+        requests = new ArrayList<>(ROWS);
+        for(int i = 0; i < ROWS; i++) {
+            requests.add(new AddArticleRequest("제목" + i, "내용" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleInsert() {
+        for(AddArticleRequest request : requests) {
+            blogService.save(request, "benchmark");
+        }
+    }
+
+    @Benchmark
+    public Object batchInsert() {
+        return blogService.saveAll(requests, "benchmark");
+    }
+}
@@ -0,0 +1,57 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modswiskim.springbootlearn.BenchmarkContexts;
+import com.modswiskim.springbootlearn.dto.ArticleResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 기존 목록 조회(findAll + 리스트 직렬화)와 NDJSON 스트리밍 내보내기의 처리량 비교
+// 힙 사용량은 build.gradle 의 jmh 블록에 profilers = ['gc'] 를 추가해 alloc rate 로 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx512m"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ArticleExportBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        BenchmarkContexts.seedArticles(context, rows);
+        blogService = context.getBean(BlogService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void listAll() throws IOException {
+        List<ArticleResponse> articles = blogService.findAll()
+                .stream()
+                .map(ArticleResponse::new)
+                .toList();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), articles);
+    }
+
+    @Benchmark
+    public void exportNdjson() throws IOException {
+        blogService.exportTo(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,63 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.BenchmarkContexts;
+import com.modswiskim.springbootlearn.dto.ArticleListViewResponse;
+import com.modswiskim.springbootlearn.dto.ArticleResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 조회 : 엔티티 전체를 읽어 DTO 로 옮기는 방식(*Entities)과 DTO 프로젝션 조회(*Projection) 비교
+// 할당량은 gc 프로파일러를 켜고(./gradlew jmh -PjmhIncludes=ArticleListBenchmark -PjmhProfilers=gc) gc.alloc.rate.norm 으로 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArticleListBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        BenchmarkContexts.seedArticles(context, rows);
+        blogService = context.getBean(BlogService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> viewEntities() {
+        return blogService.findAll().stream()
+                .map(ArticleListViewResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> viewProjection() {
+        return blogService.findAllSummaries();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> apiEntities() {
+        return blogService.findAll().stream()
+                .map(ArticleResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> apiProjection() {
+        return blogService.findAllResponses();
+    }
+}
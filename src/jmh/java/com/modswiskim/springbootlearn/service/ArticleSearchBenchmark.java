@@ -0,0 +1,78 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.dto.ArticleSearchResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 글 100만 건 색인에서의 검색 지연 시간 (단어 검색 / 여러 단어 / 마지막 단어 접두어)
+// DB 없이 ArticleSearchIndex 에 합성 글을 직접 색인해서 측정한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArticleSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "jpa", "hibernate", "security", "oauth", "token", "cache", "caffeine", "index",
+            "search", "lucene", "query", "thymeleaf", "gradle", "benchmark", "latency", "thread", "pool", "stream",
+            "스프링", "부트", "블로그", "검색", "캐시", "성능", "토큰", "인증", "테스트", "배포"};
+
+    @Param({"1000000"})
+    private int documents;
+
+    private Path indexDir;
+    private ArticleSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        indexDir = Files.createTempDirectory("article-search-benchmark");
+        index = new ArticleSearchIndex(indexDir);
+
+        Random random = new Random(42);
+        for(int id = 1; id <= documents; id++) {
+            index.index(id, words(random, 4), words(random, 60));
+        }
+        index.commit();
+        index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Benchmark
+    public ArticleSearchResponse singleTerm() throws IOException {
+        return index.search("lucene", 0, 20);
+    }
+
+    @Benchmark
+    public ArticleSearchResponse multiTerm() throws IOException {
+        return index.search("spring security token", 0, 20);
+    }
+
+    @Benchmark
+    public ArticleSearchResponse prefix() throws IOException {
+        return index.search("spring cach", 0, 20);
+    }
+
+    @Benchmark
+    public ArticleSearchResponse deepPage() throws IOException {
+        return index.search("spring", 49, 20);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < count; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.BenchmarkContexts;
+import com.modswiskim.springbootlearn.dto.UpdateArticleRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 동시 수정 경합 : 16개 스레드가 적은 수의 글(hotIds)만 계속 수정한다
+// maxAttempts=1 이면 충돌이 바로 409 가 되고, 5 이면 백오프 후 다시 시도한다
+// updated / conflicts 보조 카운터로 성공한 수정과 끝내 충돌한 수정의 비율을 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(16)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArticleUpdateContentionBenchmark {
+
+    @Param({"1", "4", "64"})
+    private int hotIds;
+
+    @Param({"1", "5"})
+    private int maxAttempts;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private long[] ids;
+    private String[] authors;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long updated;
+        public long conflicts;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("article-update.max-attempts=" + maxAttempts);
+        BenchmarkContexts.seedArticles(context, hotIds);
+        blogService = context.getBean(BlogService.class);
+
+        List<Map<String, Object>> rows = context.getBean(JdbcTemplate.class)
+                .queryForList("SELECT id, author FROM article ORDER BY id");
+        ids = new long[rows.size()];
+        authors = new String[rows.size()];
+        for(int i = 0; i < rows.size(); i++) {
+            ids[i] = ((Number) rows.get(i).get("ID")).longValue();
+            authors[i] = (String) rows.get(i).get("AUTHOR");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void update(Outcomes outcomes) {
+        int index = ThreadLocalRandom.current().nextInt(ids.length);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(authors[index], null, List.of()));
+        UpdateArticleRequest request = new UpdateArticleRequest("제목" + index, "내용" + System.nanoTime());
+        try {
+            blogService.update(ids[index], request, null);
+            outcomes.updated++;
+        } catch (OptimisticLockingFailureException e) {
+            outcomes.conflicts++;
+        }
+    }
+}
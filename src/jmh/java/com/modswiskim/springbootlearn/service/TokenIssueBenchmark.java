@@ -0,0 +1,85 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.BenchmarkContexts;
+import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
+import com.modswiskim.springbootlearn.domain.User;
+import com.modswiskim.springbootlearn.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// /api/token 의 액세스 토큰 발급 비용 비교
+// lookupPath : 토큰 검증 -> 리프레시 토큰 조회(DB) -> 유저 조회(DB) -> 발급 (이전 TokenService 의 흐름)
+// fastPath : 토큰 검증 -> 메모리에서 폐기 여부 확인 -> 캐시된 유저 정보로 발급 (TokenService.createNewAccessToken)
+// 코어가 적으면 lookupPath 는 JIT 가 늦게 끝나 3회 워밍업으로는 수렴하지 않는다 (20회 이후 안정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 20, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class TokenIssueBenchmark {
+
+    @Param({"100000"})
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private TokenProvider tokenProvider;
+    private TokenService tokenService;
+    private RefreshTokenService refreshTokenService;
+    private UserService userService;
+    private String refreshToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        seedUsers(context.getBean(JdbcTemplate.class), users);
+
+        tokenProvider = context.getBean(TokenProvider.class);
+        tokenService = context.getBean(TokenService.class);
+        refreshTokenService = context.getBean(RefreshTokenService.class);
+        userService = context.getBean(UserService.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .email("benchmark@gmail.com")
+                .build());
+        refreshToken = tokenProvider.generateToken(user, Duration.ofDays(14));
+        refreshTokenService.rotate(user.getId(), refreshToken, Duration.ofDays(14));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String lookupPath() {
+        if(!tokenProvider.validToken(refreshToken)) {
+            throw new IllegalStateException();
+        }
+        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
+        User user = userService.findById(userId);
+        return tokenProvider.generateToken(user, Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public String fastPath() {
+        return tokenService.createNewAccessToken(refreshToken);
+    }
+
+    private static void seedUsers(JdbcTemplate jdbcTemplate, int rows) {
+        List<Object[]> batch = new ArrayList<>(1_000);
+        for(int i = 0; i < rows; i++) {
+            batch.add(new Object[]{"user" + i + "@gmail.com"});
+            if(batch.size() == 1_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO users (email) VALUES (?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
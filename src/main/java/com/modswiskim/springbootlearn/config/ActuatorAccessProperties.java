@@ -0,0 +1,19 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("actuator-access")
+public class ActuatorAccessProperties {
+    // health, info 를 제외한 액추에이터 엔드포인트(metrics, prometheus)에 접근할 수 있는 주소 (IP 또는 CIDR)
+    // 프록시 뒤라면 프록시가 아니라 스크레이퍼가 직접 붙는 주소를 적는다
+    private List<String> allowedAddresses = new ArrayList<>(List.of("127.0.0.1", "::1"));
+}
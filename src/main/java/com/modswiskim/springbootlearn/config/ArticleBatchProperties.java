@@ -0,0 +1,15 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("article-batch")
+public class ArticleBatchProperties {
+    private int jdbcBatchSize = 50;     // 한 트랜잭션, 한 JDBC 배치로 묶어서 insert 할 글 수
+    private int maxItems = 10_000;      // 한 요청에 담을 수 있는 최대 글 수
+}
@@ -0,0 +1,18 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("article-update")
+public class ArticleUpdateProperties {
+    private int maxAttempts = 5;                            // If-Match 없는 수정이 동시 수정과 충돌했을 때 최대 시도 횟수
+    private Duration initialBackoff = Duration.ofMillis(10); // 재시도 대기 시간은 시도마다 두 배 (그 안에서 무작위)
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
@@ -0,0 +1,133 @@
+package com.modswiskim.springbootlearn.config;
+
+import com.modswiskim.springbootlearn.domain.Article;
+import com.modswiskim.springbootlearn.service.ArticleChangedEvent;
+import com.modswiskim.springbootlearn.service.ArticleViewCounter;
+import com.modswiskim.springbootlearn.service.BlogService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// /articles, /articles/{id} 뷰의 렌더링 결과를 캐시해서 바뀌지 않은 페이지는 다시 렌더링하지 않는 필터
+// ETag 를 함께 내려주어 브라우저가 If-None-Match 로 다시 요청하면 304 로 응답한다
+@Component
+public class ArticleViewCacheFilter extends OncePerRequestFilter {
+
+    private static final String LIST_PATH = "/articles";
+    private static final Pattern ARTICLE_PATH = Pattern.compile("^/articles/(\\d{1,18})$");
+    private static final String CACHE_CONTROL = "no-cache";    // 캐시는 하되 매번 ETag 로 재검증
+
+    private final Cache cache;
+    private final BlogService blogService;
+    private final ArticleViewCounter articleViewCounter;
+    private final AtomicLong listGeneration = new AtomicLong();  // 글이 바뀔 때마다 증가해 목록 캐시 키를 바꾼다
+
+    public ArticleViewCacheFilter(CacheManager cacheManager, BlogService blogService, ArticleViewCounter articleViewCounter) {
+        this.cache = cacheManager.getCache(CacheConfig.ARTICLE_VIEWS);
+        this.blogService = blogService;
+        this.articleViewCounter = articleViewCounter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if(!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String path = getPath(request);
+        return !LIST_PATH.equals(path) && !ARTICLE_PATH.matcher(path).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key;
+        LocalDateTime version = null;
+        Long articleId = null;
+
+        Matcher matcher = ARTICLE_PATH.matcher(getPath(request));
+        if(matcher.matches()) {
+            long id = Long.parseLong(matcher.group(1));
+            Article article;
+            try {
+                article = blogService.findById(id);    // 글 캐시에서 updated_at 만 확인
+            } catch (IllegalArgumentException e) {  // 없는 글은 캐시하지 않고 그대로 처리
+                filterChain.doFilter(request, response);
+                return;
+            }
+            key = "article:" + id;
+            articleId = id;
+            version = article.getUpdatedAt();
+        } else {
+            key = "list:" + listGeneration.get();
+        }
+
+        // 같은 버전으로 렌더링해 둔 결과가 있으면 그대로 응답
+        RenderedView cached = cache.get(key, RenderedView.class);
+        if(cached != null && Objects.equals(cached.version(), version)) {
+            if(articleId != null) {
+                articleViewCounter.increment(articleId);   // 컨트롤러를 거치지 않으므로 여기서 조회수를 센다
+            }
+            writeCached(request, response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        String contentType = responseWrapper.getContentType();
+        if(responseWrapper.getStatus() == HttpServletResponse.SC_OK && contentType != null && contentType.startsWith("text/html")) {
+            byte[] body = responseWrapper.getContentAsByteArray();
+            RenderedView view = new RenderedView(body, contentType, eTag(body), version);
+            cache.put(key, view);
+
+            responseWrapper.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            if(new ServletWebRequest(request, responseWrapper).checkNotModified(view.eTag())) {
+                responseWrapper.resetBuffer();  // 304 는 본문 없이 응답
+            }
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    // 글이 바뀌면(커밋 후) 해당 글 페이지와 목록 페이지 캐시를 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        listGeneration.incrementAndGet();
+        cache.evict("article:" + event.articleId());
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response, RenderedView view) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if(new ServletWebRequest(request, response).checkNotModified(view.eTag())) {
+            return;
+        }
+
+        response.setContentType(view.contentType());
+        response.setContentLength(view.body().length);
+        response.getOutputStream().write(view.body());
+    }
+
+    private static String eTag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private static String getPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
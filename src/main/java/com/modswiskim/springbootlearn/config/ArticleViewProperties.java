@@ -0,0 +1,15 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("article-views")
+public class ArticleViewProperties {
+    private int batchSize = 500;    // 한 트랜잭션, 한 JDBC 배치로 반영할 글 수
+    private int topSize = 100;      // 메모리에 유지하는 조회수 상위 글 수 (/api/articles/popular 의 최대 limit)
+}
@@ -0,0 +1,57 @@
+package com.modswiskim.springbootlearn.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@RequiredArgsConstructor
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String ARTICLES = "articles";   // 글 id -> Article
+    public static final String ARTICLE_VIEWS = "articleViews"; // 뷰 경로 -> 렌더링된 HTML
+    public static final String REFRESH_TOKENS = "refreshTokens";   // 유저 id -> 현재 리프레시 토큰 해시
+    public static final String USER_CLAIMS = "userClaims";     // 유저 id -> 토큰에 넣을 유저 정보
+    public static final String USERS_BY_EMAIL = "usersByEmail";    // 이메일 -> User
+    public static final String MISSING_USER_EMAILS = "missingUserEmails";  // 가입되지 않은 이메일
+
+    private final LocalCacheProperties localCacheProperties;
+
+    // 캐시마다 크기 제한(W-TinyLFU 축출)과 TTL 을 둔 Caffeine 캐시 매니저
+    // 통계를 기록해 두면 액추에이터가 cache.gets, cache.load.duration 등의 메트릭으로 노출한다
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ARTICLES, caffeine(localCacheProperties.getArticles()).build());
+        cacheManager.registerCustomCache(ARTICLE_VIEWS, renderedViewCaffeine(localCacheProperties.getArticleViews()).build());
+        cacheManager.registerCustomCache(REFRESH_TOKENS, caffeine(localCacheProperties.getRefreshTokens()).build());
+        cacheManager.registerCustomCache(USER_CLAIMS, caffeine(localCacheProperties.getUserClaims()).build());
+        cacheManager.registerCustomCache(USERS_BY_EMAIL, caffeine(localCacheProperties.getUsersByEmail()).build());
+        cacheManager.registerCustomCache(MISSING_USER_EMAILS, caffeine(localCacheProperties.getMissingUserEmails()).build());
+
+        // 트랜잭션 안에서의 put / evict 는 커밋 이후로 미뤄 커밋 전 값이 다시 캐시되지 않도록 한다
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // 렌더링된 HTML 은 항목 수가 아니라 바이트 크기 합으로 제한
+    private static Caffeine<Object, Object> renderedViewCaffeine(LocalCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumWeight(spec.getMaximumSize())
+                .weigher((Object key, Object value) -> value instanceof RenderedView view ? view.body().length : 1)
+                .expireAfterWrite(spec.getTtl())
+                .recordStats();
+    }
+
+    private static Caffeine<Object, Object> caffeine(LocalCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats();
+    }
+}
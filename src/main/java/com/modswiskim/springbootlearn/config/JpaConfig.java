@@ -0,0 +1,24 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@RequiredArgsConstructor
+@Configuration
+public class JpaConfig {
+
+    private final ArticleBatchProperties articleBatchProperties;
+
+    // insert/update 를 JDBC 배치로 묶어서 전송 (id 는 시퀀스로 미리 받아 두므로 배치가 가능하다)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, articleBatchProperties.getJdbcBatchSize());
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
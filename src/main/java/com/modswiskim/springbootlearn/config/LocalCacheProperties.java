@@ -0,0 +1,32 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("local-cache")    // 캐시별 최대 크기와 유효 시간 (local-cache.<캐시>.maximum-size, ttl)
+public class LocalCacheProperties {
+    private Spec articles = new Spec(10_000, Duration.ofMinutes(10));
+    private Spec articleViews = new Spec(64 * 1024 * 1024, Duration.ofMinutes(30));   // maximumSize 는 바이트 단위
+    private Spec refreshTokens = new Spec(100_000, Duration.ofDays(14));    // 리프레시 토큰 유효 기간과 같게
+    private Spec userClaims = new Spec(10_000, Duration.ofMinutes(30));
+    private Spec usersByEmail = new Spec(10_000, Duration.ofMinutes(5));
+    private Spec missingUserEmails = new Spec(100_000, Duration.ofMinutes(1));    // 없는 이메일 (부정 캐시)
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private long maximumSize;
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,20 @@
+package com.modswiskim.springbootlearn.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 메트릭 / 트레이싱 설정 (노출할 엔드포인트, 히스토그램은 application.properties 의 management.*)
+// 컨트롤러 : http.server.requests{uri, method, status} 로 엔드포인트마다 자동 기록
+// 서비스 : 클래스에 @Observed 를 붙이면 public 메서드 호출마다 타이머(<이름>{class, method})와 트레이스 span 을 기록
+// 리포지토리 : spring.data.repository.invocations{repository, method}, Hibernate 쿼리 통계 hibernate.*
+// 커넥션 풀 : hikaricp.*, JWT 검증 결과 : jwt.validations{outcome, cache}
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+}
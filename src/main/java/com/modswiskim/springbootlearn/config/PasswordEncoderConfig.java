@@ -0,0 +1,58 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// 패스워드 인코더 빈. UserService 가 주입받을 수 있도록 시큐리티 설정(WebOAuthSecurityConfig)과 분리
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    @Bean
+    public BCryptPasswordEncoder bCryptPasswordEncoder() {
+        Integer strength = passwordHashingProperties.getStrength();
+        if(strength == null) {
+            strength = calibrate(passwordHashingProperties.getTargetDuration().toNanos());
+        }
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // cost 가 1 오를 때마다 해시 시간이 두 배가 되므로, 최소 cost 의 해시 시간을 재서 목표 시간을 넘지 않는 가장 큰 cost 를 고른다
+    private static int calibrate(long targetNanos) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        encoder.encode("calibration");  // 워밍업
+
+        long elapsed = Long.MAX_VALUE;
+        for(int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            elapsed = Math.min(elapsed, System.nanoTime() - start);
+        }
+
+        int strength = chooseStrength(elapsed, targetNanos);
+        log.info("BCrypt strength calibrated to {} (about {} ms per hash, target {} ms)",
+                strength, (elapsed << (strength - MIN_STRENGTH)) / 1_000_000, targetNanos / 1_000_000);
+        return strength;
+    }
+
+    // 최소 cost 의 해시 시간이 minStrengthNanos 일 때 targetNanos 를 넘지 않는 가장 큰 cost (MIN_STRENGTH ~ MAX_STRENGTH)
+    static int chooseStrength(long minStrengthNanos, long targetNanos) {
+        long elapsed = minStrengthNanos;
+        int strength = MIN_STRENGTH;
+        while(strength < MAX_STRENGTH && elapsed * 2 <= targetNanos) {
+            elapsed *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,20 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("password-hashing")
+public class PasswordHashingProperties {
+    private Integer strength;   // BCrypt cost. 지정하지 않으면 시작할 때 targetDuration 에 맞춰 정한다
+    private Duration targetDuration = Duration.ofMillis(250);   // 해시 한 번에 걸릴 목표 시간
+    private int threads = Runtime.getRuntime().availableProcessors();   // 해시 전용 스레드 수
+    private int queueCapacity = 100;    // 대기할 수 있는 해시 작업 수. 넘치면 503
+    private Duration retryAfter = Duration.ofSeconds(2);    // 503 응답의 Retry-After
+}
@@ -0,0 +1,16 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("refresh-token-purge")   // 실행 간격은 refresh-token-purge.interval (ms, 기본 1시간)
+public class RefreshTokenPurgeProperties {
+    private boolean enabled = true;
+    private int batchSize = 500;        // 한 트랜잭션에서 삭제할 최대 행 수
+    private int maxBatches = 1_000;     // 한 번 실행할 때 처리할 최대 묶음 수
+}
@@ -0,0 +1,8 @@
+package com.modswiskim.springbootlearn.config;
+
+import java.time.LocalDateTime;
+
+// 렌더링이 끝난 HTML 을 인코딩된 바이트 그대로 보관하는 캐시 항목
+// version 은 렌더링에 사용한 글의 updated_at (목록은 null)
+public record RenderedView(byte[] body, String contentType, String eTag, LocalDateTime version) {
+}
@@ -0,0 +1,18 @@
+package com.modswiskim.springbootlearn.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("search")
+public class SearchProperties {
+    private Path indexDir;  // 로컬 디스크 색인 위치. 정하지 않으면 메모리 색인 (시작할 때마다 재색인)
+    private int maxPageSize = 100;
+    private int maxResultWindow = 10_000;   // (page + 1) * size 의 최대값
+}
@@ -0,0 +1,75 @@
+package com.modswiskim.springbootlearn.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+// 정적 리소스 : URL 에 내용 해시를 붙이고(@{/js/article.js} -> /js/article-<md5>.js), 빌드 때 만든 .br / .gz 를 Accept-Encoding 에 맞춰 그대로 보낸다
+// 해시가 붙은 URL 만 1년 동안 캐시하고, 해시 없는 URL(/js/article.js, /img/google_SI.png)은 매번 Last-Modified 로 다시 확인한다
+// (spring.web.resources.add-mappings=false 로 스프링 부트의 기본 /** 매핑 대신 사용)
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String LOCATION = "classpath:/static/";
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{32}");   // ContentVersionStrategy 의 MD5
+    private static final CacheControl VERSIONED = CacheControl.maxAge(Duration.ofDays(365)).cachePublic();
+    private static final CacheControl UNVERSIONED = CacheControl.noCache();
+
+    private final ContentVersionStrategy versionStrategy = new ContentVersionStrategy();
+
+    // 템플릿의 @{/js/article.js} 를 해시가 붙은 URL 로 바꾼다
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // Cache-Control 은 아래 인터셉터가 URL 마다 정하므로 핸들러에는 설정하지 않는다
+        registry.addResourceHandler("/**")
+                .addResourceLocations(LOCATION)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addVersionStrategy(versionStrategy, "/**"));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if(handler instanceof ResourceHttpRequestHandler) {
+                    CacheControl cacheControl = isVersioned(request) ? VERSIONED : UNVERSIONED;
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+                }
+                return true;
+            }
+        });
+    }
+
+    // 해시가 맞지 않는 URL 은 VersionResourceResolver 가 찾지 못해 404 가 되므로, 응답이 나가는 URL 은 해시 형식만 확인하면 된다
+    private boolean isVersioned(HttpServletRequest request) {
+        Object path = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        if(path == null) {
+            return false;
+        }
+        String version = versionStrategy.extractVersion(path.toString());
+        return version != null && CONTENT_HASH.matcher(version).matches();
+    }
+}
@@ -1,22 +1,37 @@
 package com.modswiskim.springbootlearn.config;
 
-import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
+import com.modswiskim.springbootlearn.config.jwt.TokenAuthenticationCache;
+import com.modswiskim.springbootlearn.config.jwt.TokenVerification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 
-@RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
-    private final TokenProvider tokenProvider;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
     private final static String HEADER_AUTHORIZATION = "Authorization";
-    private final static String TOKEN_PREFIX = "Bearer";
+    private final static String TOKEN_PREFIX = "Bearer ";  // RFC 6750 : 스킴 이름은 대소문자를 구분하지 않는다
+
+    // 검증 결과별 카운터 (jwt.validations{outcome, cache}). 요청마다 조회하지 않도록 미리 만들어 둔다
+    private final Map<TokenVerification.Status, Counter> verifiedCounters = new EnumMap<>(TokenVerification.Status.class);
+    private final Counter cachedCounter;
+
+    public TokenAuthenticationFilter(TokenAuthenticationCache tokenAuthenticationCache, MeterRegistry meterRegistry) {
+        this.tokenAuthenticationCache = tokenAuthenticationCache;
+        for(TokenVerification.Status status : TokenVerification.Status.values()) {
+            verifiedCounters.put(status, validationCounter(meterRegistry, status, "miss"));
+        }
+        this.cachedCounter = validationCounter(meterRegistry, TokenVerification.Status.VALID, "hit");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -24,18 +39,28 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
         // 가져온 접두사에서 제거
         String token = getAccessToken(authorizationHeader);
-        // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정
-        if(tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정 (검증된 토큰은 캐시에서 바로 가져온다)
+        TokenAuthenticationCache.Result result = tokenAuthenticationCache.authenticate(token);
+        (result.cached() ? cachedCounter : verifiedCounters.get(result.status())).increment();
+        if(result.authentication() != null) {
+            SecurityContextHolder.getContext().setAuthentication(result.authentication());
         }
         filterChain.doFilter(request, response);
     }
 
     private String getAccessToken(String authorizationHeader) {
-        if(authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
-            return authorizationHeader.substring(TOKEN_PREFIX.length());
+        if(authorizationHeader != null
+                && authorizationHeader.regionMatches(true, 0, TOKEN_PREFIX, 0, TOKEN_PREFIX.length())) {
+            return authorizationHeader.substring(TOKEN_PREFIX.length()).trim();
         }
         return null;
     }
+
+    private static Counter validationCounter(MeterRegistry meterRegistry, TokenVerification.Status status, String cache) {
+        return Counter.builder("jwt.validations")
+                .description("Access token validations by outcome")
+                .tag("outcome", status.name().toLowerCase(Locale.ROOT))
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,69 @@
+package com.modswiskim.springbootlearn.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 가상 스레드 모드 : spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 @Async / MVC 비동기 작업을 가상 스레드에서 실행한다
+// Java 21 에서만 동작한다 (./gradlew bootRun -PvirtualThreads). 빌드는 Java 17 기준이라 가상 스레드 API 는 리플렉션으로 호출
+// 요청마다 스레드를 만들기 때문에 동시 요청 수의 상한은 Tomcat 스레드 풀이 아니라 커넥션 풀이 된다
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadPerTaskExecutor());
+    }
+
+    // 기본 applicationTaskExecutor(스레드 8개) 대신 사용
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+    }
+
+    // 가상 스레드가 커넥션을 기다리며 줄을 서게 되므로 풀 크기와 대기 시간을 시작할 때 알린다
+    // 커넥션 대기는 hikaricp.connections.pending / hikaricp.connections.acquire 메트릭으로 확인
+    @EventListener(ApplicationReadyEvent.class)
+    public void logConnectionPool(ApplicationReadyEvent event) {
+        DataSource dataSource = event.getApplicationContext().getBean(DataSource.class);
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);  // 프록시로 감싸져 있을 수 있다
+        if(hikari != null) {
+            log.info("Virtual threads enabled. Concurrent JDBC work is bounded by the connection pool : "
+                            + "maximumPoolSize={}, connectionTimeout={}ms",
+                    hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+        }
+        if(!"short".equals(System.getProperty("jdk.tracePinnedThreads"))
+                && !"full".equals(System.getProperty("jdk.tracePinnedThreads"))) {
+            log.info("Run with -Djdk.tracePinnedThreads=short (or record the jdk.VirtualThreadPinned JFR event) "
+                    + "to report virtual threads pinned inside synchronized blocks");
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 (running on " + Runtime.version() + ")", e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create virtual thread executor", e);
+        }
+    }
+}
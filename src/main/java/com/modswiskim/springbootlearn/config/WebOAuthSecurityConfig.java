@@ -1,24 +1,31 @@
 package com.modswiskim.springbootlearn.config;
 
+import com.modswiskim.springbootlearn.config.jwt.TokenAuthenticationCache;
 import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
 import com.modswiskim.springbootlearn.config.oauth.OAuth2AuthorizationRequestBasedOnCookieRepository;
 import com.modswiskim.springbootlearn.config.oauth.OAuth2SuccessHandler;
 import com.modswiskim.springbootlearn.config.oauth.OAuth2UserCustomService;
-import com.modswiskim.springbootlearn.repository.RefreshTokenRepository;
+import com.modswiskim.springbootlearn.config.ratelimit.RateLimitFilter;
+import com.modswiskim.springbootlearn.service.RefreshTokenService;
 import com.modswiskim.springbootlearn.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import java.util.stream.Collectors;
+
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
 
 @RequiredArgsConstructor
@@ -27,8 +34,12 @@ public class WebOAuthSecurityConfig {
 
     private final OAuth2UserCustomService oAuth2UserCustomService;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final MeterRegistry meterRegistry;
+    private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final RateLimitFilter rateLimitFilter;
+    private final ActuatorAccessProperties actuatorAccessProperties;
 
     // 스프링 시큐리티 기능 비활성화
     @Bean
@@ -50,9 +61,14 @@ public class WebOAuthSecurityConfig {
 
         // 헤더를 확인할 커스텀 필터 추가
         http.addFilterBefore(tokenAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        // 인증 정보가 정해진 뒤 사용자(또는 IP)별 요청 수 제한
+        http.addFilterAfter(rateLimitFilter, TokenAuthenticationFilter.class);
 
         // 토큰 재발급 URL은 인증 없이 접근 가능하도록 설정. 나머지 API url은 인증 필요
+        // 액추에이터는 health, info 만 공개하고 메트릭은 허용한 주소에서만 조회
         http.authorizeRequests()
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class)).permitAll()
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).access(actuatorAccess())
                 .requestMatchers("/api/token").permitAll()
                 .requestMatchers("/api/**").authenticated()
                 .anyRequest().permitAll();
@@ -74,15 +90,28 @@ public class WebOAuthSecurityConfig {
         // api로 시작하는 url인경우 401상태 코드를 반환하도록 예외 처리
         http.exceptionHandling()
                 .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
-                        new AntPathRequestMatcher("/api/**"));
+                        new AntPathRequestMatcher("/api/**"))
+                // 액추에이터는 인증으로 열리지 않으므로 로그인 페이지 대신 403
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.FORBIDDEN),
+                        EndpointRequest.toAnyEndpoint());
 
         return http.build();
     }
 
+    // hasIpAddress('127.0.0.1') or hasIpAddress('::1') ... (허용한 주소가 없으면 모두 거부)
+    private String actuatorAccess() {
+        if(actuatorAccessProperties.getAllowedAddresses().isEmpty()) {
+            return "denyAll";
+        }
+        return actuatorAccessProperties.getAllowedAddresses().stream()
+                .map(address -> "hasIpAddress('" + address + "')")
+                .collect(Collectors.joining(" or "));
+    }
+
     @Bean
     public OAuth2SuccessHandler oAuth2SuccessHandler() {
         return new OAuth2SuccessHandler(tokenProvider,
-                refreshTokenRepository,
+                refreshTokenService,
                 oAuth2AuthorizationRequestBasedOnCookieRepository(),
                 userService
         );
@@ -90,7 +119,7 @@ public class WebOAuthSecurityConfig {
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenAuthenticationCache, meterRegistry);
     }
 
     @Bean
@@ -98,9 +127,4 @@ public class WebOAuthSecurityConfig {
         return new OAuth2AuthorizationRequestBasedOnCookieRepository();
     }
 
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
 }
@@ -0,0 +1,55 @@
+package com.modswiskim.springbootlearn.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기/쓰기 분리 데이터소스 (datasource-routing.enabled=true)
+// primary 와 복제본마다 Hikari 풀을 따로 두고, 풀별 메트릭을 hikaricp.*{pool=primary|replica-N} 로 노출한다
+// 로컬에서는 H2 두 개로 확인할 수 있다. 예) primary.url=jdbc:h2:mem:testdb, replicas[0].url=jdbc:h2:mem:testdb
+// (같은 이름의 인메모리 DB 를 가리키는 두 번째 풀이 복제본 역할)
+@ConditionalOnProperty(name = "datasource-routing.enabled", havingValue = "true")
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceRoutingProperties properties,
+                                                       ReadYourWritesTracker readYourWritesTracker,
+                                                       MeterRegistry meterRegistry) {
+        HikariDataSource primary = pool(ReadWriteRoutingDataSource.PRIMARY, properties.getPrimary(), meterRegistry, false);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for(int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(pool(ReadWriteRoutingDataSource.REPLICA_PREFIX + i, properties.getReplicas().get(i), meterRegistry, true));
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, readYourWritesTracker);
+    }
+
+    // 애플리케이션이 사용하는 데이터소스. 커넥션을 첫 SQL 실행 시점까지 미뤄 readOnly 여부로 라우팅되게 한다
+    @Primary
+    @Bean(name = "dataSource")
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource pool(String name, DataSourceRoutingProperties.Pool pool, MeterRegistry meterRegistry,
+                                         boolean readOnly) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(pool.getUrl());
+        dataSource.setUsername(pool.getUsername());
+        dataSource.setPassword(pool.getPassword());
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setReadOnly(readOnly);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
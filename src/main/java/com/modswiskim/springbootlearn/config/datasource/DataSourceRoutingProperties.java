@@ -0,0 +1,31 @@
+package com.modswiskim.springbootlearn.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("datasource-routing")  // 읽기/쓰기 분리 (datasource-routing.enabled=true 일 때만 사용)
+public class DataSourceRoutingProperties {
+    private boolean enabled = false;
+    private Pool primary = new Pool();
+    private List<Pool> replicas = new ArrayList<>();
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);  // 바뀐 글(과 목록)을 이 시간 동안 primary 에서 읽는다 (복제 지연 대비)
+    private long readYourWritesMaximumSize = 100_000;
+
+    @Setter
+    @Getter
+    public static class Pool {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,68 @@
+package com.modswiskim.springbootlearn.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modswiskim.springbootlearn.service.ArticleChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+// 복제 지연 동안 방금 바뀐 글을 복제본에서 읽지 않도록 글 단위로 최근 변경을 기록한다
+// 인증 정보가 아닌 글 id 로 판단하므로 수정 직후 토큰 없이 이동하는 글 페이지 요청이나,
+// 다른 사용자의 조회가 이전 내용을 글 캐시에 다시 채우는 경우도 primary 에서 읽는다
+// 목록은 어떤 글이 바뀌어도 달라지므로 마지막 변경 후 window 동안은 primary 에서 읽는다
+// (datasource-routing.enabled=false 이면 모든 읽기가 primary 이므로 기록만 하고 영향은 없다)
+@Component
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final Cache<Long, Boolean> recentlyWritten;
+    private final long windowNanos;
+    private volatile long lastWriteAt;
+    private volatile boolean written;
+
+    public ReadYourWritesTracker(DataSourceRoutingProperties properties) {
+        this.windowNanos = properties.getReadYourWritesWindow().toNanos();
+        this.recentlyWritten = Caffeine.newBuilder()
+                .maximumSize(properties.getReadYourWritesMaximumSize())
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+    }
+
+    // 글 작성/수정/삭제가 커밋되면 기록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        recentlyWritten.put(event.articleId(), Boolean.TRUE);
+        lastWriteAt = System.nanoTime();
+        written = true;
+    }
+
+    // 글 하나 조회 : 최근에 바뀐 글이면 primary 에서 읽는다
+    public <T> T readArticle(long articleId, Supplier<T> read) {
+        return recentlyWritten.getIfPresent(articleId) != null ? onPrimary(read) : read.get();
+    }
+
+    // 목록 조회 : 마지막 변경 후 window 가 지나지 않았으면 primary 에서 읽는다
+    public <T> T readList(Supplier<T> read) {
+        return written && System.nanoTime() - lastWriteAt < windowNanos ? onPrimary(read) : read.get();
+    }
+
+    // ReadWriteRoutingDataSource 가 커넥션을 고를 때 확인
+    public boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    private static <T> T onPrimary(Supplier<T> read) {
+        if(PRIMARY_REQUIRED.get() != null) {
+            return read.get();
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.modswiskim.springbootlearn.config.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import io.jsonwebtoken.impl.TextCodec;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// HS256 JWT 서명/검증기
+// 키와 헤더는 생성할 때 한 번만 계산하고, Mac 인스턴스는 풀에서 빌려 쓴다
+// (가상 스레드는 요청마다 새 스레드라 ThreadLocal 로는 매번 Mac 을 새로 만들게 되므로, 키를 넣어 둔 원본을 복제해 채운다)
+// 형식 오류, 서명 불일치, 만료처럼 자주 발생하는 실패는 예외를 만들지 않고 상태로 돌려준다
+class HmacJwtCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String JWT_ALGORITHM = "HS256";
+    private static final int SIGNATURE_LENGTH = 43;    // 32바이트 HMAC 의 패딩 없는 base64url 길이
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private static final int MAC_POOL_SIZE = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final Base64.Decoder decoder = Base64.getUrlDecoder();
+    private final String encodedHeader;
+    private final Mac prototype;
+    private final BlockingQueue<Mac> macs = new ArrayBlockingQueue<>(MAC_POOL_SIZE);
+
+    // jjwt 의 signWith(alg, String) 과 같은 방식(base64 디코딩)으로 비밀값에서 키를 만든다
+    HmacJwtCodec(String secretKey) {
+        SecretKeySpec key = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), ALGORITHM);
+        this.encodedHeader = encoder.encodeToString(
+                "{\"typ\":\"JWT\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 클레임을 페이로드로 하는 서명된 토큰 생성
+    String sign(Map<String, Object> claims) {
+        String unsigned;
+        try {
+            unsigned = encodedHeader + '.' + encoder.encodeToString(OBJECT_MAPPER.writeValueAsBytes(claims));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize claims", e);
+        }
+
+        Mac instance = borrowMac();
+        try {
+            byte[] signature = instance.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+            return unsigned + '.' + encoder.encodeToString(signature);
+        } finally {
+            macs.offer(instance);
+        }
+    }
+
+    // 토큰 검증 : 형식 확인 -> 서명 확인 -> 페이로드 파싱 -> 만료 확인 순서로 진행
+    TokenVerification verify(String token, long nowMillis) {
+        if(token == null || token.isEmpty()) {
+            return TokenVerification.failure(TokenVerification.Status.MISSING);
+        }
+
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if(firstDot <= 0 || secondDot <= firstDot + 1
+                || token.indexOf('.', secondDot + 1) >= 0
+                || token.length() - secondDot - 1 != SIGNATURE_LENGTH
+                || !isBase64Url(token)) {
+            return TokenVerification.failure(TokenVerification.Status.MALFORMED);
+        }
+
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        byte[] expected;
+        Mac instance = borrowMac();
+        try {
+            instance.update(bytes, 0, secondDot);
+            expected = instance.doFinal();
+        } finally {
+            macs.offer(instance);   // doFinal 이 상태를 초기화한다. 풀이 가득 차 있으면 버린다
+        }
+        byte[] actual = decoder.decode(Arrays.copyOfRange(bytes, secondDot + 1, bytes.length));
+        if(!MessageDigest.isEqual(expected, actual)) {
+            return TokenVerification.failure(TokenVerification.Status.INVALID_SIGNATURE);
+        }
+
+        // 여기부터는 우리 키로 서명된 토큰이므로 파싱 실패는 드문 경우다
+        Map<String, Object> payload;
+        try {
+            if(!encodedHeader.equals(token.substring(0, firstDot)) && !isHs256Header(bytes, firstDot)) {
+                return TokenVerification.failure(TokenVerification.Status.MALFORMED);
+            }
+            payload = OBJECT_MAPPER.readValue(
+                    decoder.decode(Arrays.copyOfRange(bytes, firstDot + 1, secondDot)), MAP_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            return TokenVerification.failure(TokenVerification.Status.MALFORMED);
+        }
+
+        // exp, nbf 는 초 단위
+        if(payload.get(Claims.EXPIRATION) instanceof Number exp && exp.longValue() * 1000 <= nowMillis) {
+            return TokenVerification.failure(TokenVerification.Status.EXPIRED);
+        }
+        if(payload.get(Claims.NOT_BEFORE) instanceof Number nbf && nbf.longValue() * 1000 > nowMillis) {
+            return TokenVerification.failure(TokenVerification.Status.NOT_YET_VALID);
+        }
+
+        return TokenVerification.valid(new DefaultClaims(payload));
+    }
+
+    private Mac borrowMac() {
+        Mac instance = macs.poll();
+        if(instance != null) {
+            return instance;
+        }
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 다른 발급기가 만든 헤더(필드 순서가 다른 경우 등)는 alg 값만 확인
+    private boolean isHs256Header(byte[] bytes, int firstDot) throws IOException {
+        Map<String, Object> header = OBJECT_MAPPER.readValue(decoder.decode(Arrays.copyOf(bytes, firstDot)), MAP_TYPE);
+        return JWT_ALGORITHM.equals(header.get("alg"));
+    }
+
+    // 점(.)과 base64url 문자로만 이루어졌는지 확인
+    private static boolean isBase64Url(String token) {
+        for(int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if(!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
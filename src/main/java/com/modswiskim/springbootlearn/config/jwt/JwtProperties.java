@@ -12,4 +12,13 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String issuer;
     private String secretKey;
+    private final Cache cache = new Cache();
+
+    // 검증된 토큰의 인증 정보 캐시 설정 (jwt.cache.*)
+    @Setter
+    @Getter
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+    }
 }
@@ -0,0 +1,111 @@
+package com.modswiskim.springbootlearn.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.modswiskim.springbootlearn.util.HashUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 검증을 마친 토큰의 인증 정보를 토큰 만료 시각까지 보관하는 캐시
+// 같은 토큰으로 들어오는 요청은 서명 검증과 클레임 파싱을 다시 하지 않는다
+@Component
+public class TokenAuthenticationCache {
+
+    public static final String CACHE_NAME = "jwtAuthentication";
+
+    private final TokenProvider tokenProvider;
+    private final Cache<ByteBuffer, CachedAuthentication> cache;    // 비활성화하면 null
+
+    public TokenAuthenticationCache(TokenProvider tokenProvider, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+
+        if(!jwtProperties.getCache().isEnabled()) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getCache().getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        // 히트/미스/만료·축출 횟수를 cache.gets, cache.evictions 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 유효한 토큰이면 인증 정보, 유효하지 않으면 null 반환
+    public Authentication getAuthentication(String token) {
+        return authenticate(token).authentication();
+    }
+
+    // 검증 결과(상태, 캐시 사용 여부)와 인증 정보 반환
+    public Result authenticate(String token) {
+        if(token == null) {
+            return new Result(TokenVerification.Status.MISSING, null, false);
+        }
+        if(cache == null) {
+            return verify(token, null);
+        }
+
+        // 토큰 문자열 대신 SHA-256 해시를 키로 사용해 항목 크기를 고정
+        ByteBuffer key = ByteBuffer.wrap(HashUtil.sha256(token));
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if(cached != null) {
+            return new Result(TokenVerification.Status.VALID, cached.authentication(), true);
+        }
+
+        // 유효하지 않은 토큰은 캐시에 넣지 않는다
+        return verify(token, key);
+    }
+
+    // 토큰을 한 번만 파싱해서 검증과 인증 정보 생성을 함께 처리
+    private Result verify(String token, ByteBuffer key) {
+        TokenVerification verification = tokenProvider.verify(token);
+        if(!verification.isValid()) {
+            return new Result(verification.status(), null, false);
+        }
+
+        Claims claims = verification.claims();
+        Authentication authentication = tokenProvider.getAuthentication(token, claims);
+        Date expiration = claims.getExpiration();
+        if(key != null && expiration != null) {
+            cache.put(key, new CachedAuthentication(authentication, expiration.getTime()));
+        }
+        return new Result(TokenVerification.Status.VALID, authentication, false);
+    }
+
+    // 토큰 검증 결과. 유효하지 않으면 authentication 은 null, cached 는 캐시에서 찾았는지 여부
+    public record Result(TokenVerification.Status status, Authentication authentication, boolean cached) {
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    // 항목마다 토큰의 exp 시각에 맞춰 만료
+    private static class TokenExpiry implements Expiry<ByteBuffer, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
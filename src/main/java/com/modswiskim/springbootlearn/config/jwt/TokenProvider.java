@@ -1,11 +1,8 @@
 package com.modswiskim.springbootlearn.config.jwt;
 
 import com.modswiskim.springbootlearn.domain.User;
+import com.modswiskim.springbootlearn.dto.UserClaims;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Header;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -14,50 +11,70 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
-@RequiredArgsConstructor
 @Service
 public class TokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final HmacJwtCodec jwtCodec;    // 서명 키를 미리 계산해 두고 재사용하는 서명/검증기
+
+    public TokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.jwtCodec = new HmacJwtCodec(jwtProperties.getSecretKey());
+    }
 
     public String generateToken(User user, Duration expiredAt) {    // Duration : 자바8에 추가된 Time 패키지. 두 “시간” 사이의 간격
+        return generateToken(new UserClaims(user.getId(), user.getEmail()), expiredAt);
+    }
+
+    // 엔티티 없이 유저 정보만으로 토큰 생성
+    public String generateToken(UserClaims user, Duration expiredAt) {
         Date now = new Date();
         return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user);
     }
 
     // JWT 토큰 생성 메서드
-    private String makeToken(Date expiry, User user) {
+    private String makeToken(Date expiry, UserClaims user) {
         Date now = new Date();
 
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)   // 헤더 typ : JWT
-                .setIssuer(jwtProperties.getIssuer())   // 내용 iss : ajufresh@gmail.com(propertise에서 설정한 값)
-                .setIssuedAt(now)   // 내용 iat : 현재 시간
-                .setExpiration(expiry)  // 내용 exp : expiry 멤버 변숫값
-                .setSubject(user.getEmail())    // 내용 sub : 유저 이메일
-                .claim("id", user.getId())  // 클레임 id : 유저 아이디
-                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())   // 서명 : 비밀값과 함께 해시값을 HS256 방식으로 암호화
-                .compact();
+        // 헤더 typ : JWT, alg : HS256 는 서명기에서 미리 만들어 둔 값을 사용
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put(Claims.ISSUER, jwtProperties.getIssuer());   // 내용 iss : ajufresh@gmail.com(propertise에서 설정한 값)
+        claims.put(Claims.ISSUED_AT, now.getTime() / 1000);     // 내용 iat : 현재 시간
+        claims.put(Claims.EXPIRATION, expiry.getTime() / 1000); // 내용 exp : expiry 멤버 변숫값
+        claims.put(Claims.SUBJECT, user.email());    // 내용 sub : 유저 이메일
+        claims.put("id", user.id()); // 클레임 id : 유저 아이디
+
+        return jwtCodec.sign(claims);   // 서명 : 비밀값과 함께 해시값을 HS256 방식으로 암호화
+    }
+
+    // JWT 토큰 검증 메서드 : 실패해도 예외를 던지지 않고 실패 사유를 돌려준다
+    public TokenVerification verify(String token) {
+        return jwtCodec.verify(token, System.currentTimeMillis());
     }
 
     // JWT 토큰 유효성 검증 메서드
     public boolean validToken(String token) {
-        try {
-            Jwts.parser()
-                    .setSigningKey(jwtProperties.getSecretKey())    // 비밀값으로 복호화
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) { // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
-            return false;
-        }
+        return verify(token).isValid();
+    }
+
+    // 토큰을 한 번만 파싱해 유효성 검증과 클레임 조회를 함께 하는 메서드. 유효하지 않은 토큰이면 null
+    public Claims getValidClaims(String token) {
+        return verify(token).claims();
     }
 
     // 토큰 기반으로 인증 정보를 가져오는 메서드
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);   // 클레임 정보를 반환받아 사용자 이메일이 들어 있는 토큰 제목 sub와
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));   // 토큰 기반으로 인증 정보를 생성한다.
+        return getAuthentication(token, getClaims(token));
+    }
+
+    // 이미 검증한 클레임으로 인증 정보를 만드는 메서드
+    public Authentication getAuthentication(String token, Claims claims) {
+        // 사용자 이메일이 들어 있는 토큰 제목 sub와 토큰 기반으로 인증 정보를 생성한다.
+        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
 
         return new UsernamePasswordAuthenticationToken(new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities), token, authorities);
     }
@@ -68,11 +85,12 @@ public class TokenProvider {
         return claims.get("id", Long.class);
     }
 
-    // 프로퍼티즈 파일에 저장한 비밀값으로 토큰을 복호화한 뒤 클레임을 가져오는 메서드
+    // 프로퍼티즈 파일에 저장한 비밀값으로 토큰을 검증한 뒤 클레임을 가져오는 메서드
     private Claims getClaims(String token) {
-        return Jwts.parser()    // 클레임 조회
-                .setSigningKey(jwtProperties.getSecretKey())    // 비밀값으로 복호화
-                .parseClaimsJws(token)
-                .getBody();
+        TokenVerification verification = verify(token);
+        if(!verification.isValid()) {
+            throw new IllegalArgumentException("Invalid token : " + verification.status());
+        }
+        return verification.claims();
     }
 }
@@ -0,0 +1,28 @@
+package com.modswiskim.springbootlearn.config.jwt;
+
+import io.jsonwebtoken.Claims;
+
+// 토큰 검증 결과 : 실패한 경우에도 예외 대신 실패 사유를 상태로 돌려준다
+public record TokenVerification(Status status, Claims claims) {
+
+    public enum Status {
+        VALID,              // 유효한 토큰
+        MISSING,            // 토큰 없음
+        MALFORMED,          // JWT 형식이 아님
+        INVALID_SIGNATURE,  // 서명 불일치
+        EXPIRED,            // 만료된 토큰
+        NOT_YET_VALID       // nbf 이전이라 아직 사용할 수 없는 토큰
+    }
+
+    static TokenVerification valid(Claims claims) {
+        return new TokenVerification(Status.VALID, claims);
+    }
+
+    static TokenVerification failure(Status status) {
+        return new TokenVerification(status, null);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -1,9 +1,8 @@
 package com.modswiskim.springbootlearn.config.oauth;
 
 import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
-import com.modswiskim.springbootlearn.domain.RefreshToken;
 import com.modswiskim.springbootlearn.domain.User;
-import com.modswiskim.springbootlearn.repository.RefreshTokenRepository;
+import com.modswiskim.springbootlearn.service.RefreshTokenService;
 import com.modswiskim.springbootlearn.service.UserService;
 import com.modswiskim.springbootlearn.util.CookieUtil;
 import jakarta.servlet.ServletException;
@@ -29,7 +28,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     public static final String REDIRECT_PATH = "/articles";
 
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository auth2AuthorizationRequestBasedOnCookieRepository;
     private final UserService userService;
 
@@ -55,13 +54,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
     }
 
-    // 생성된 리프레시 토큰을 전달받아 데이터베이스에 저장
+    // 생성된 리프레시 토큰을 전달받아 데이터베이스와 메모리 저장소에 저장 (이전 토큰은 폐기)
     private void saveRefreshToken(Long userId, String newRefreshToken) {
-        RefreshToken refreshToken = refreshTokenRepository.findByUserId(userId)
-                .map(entity -> entity.update(newRefreshToken))
-                .orElse(new RefreshToken(userId, newRefreshToken));
-
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenService.rotate(userId, newRefreshToken, REFRESH_TOKEN_DURATION);
     }
 
     // 생성된 리프레시 토큰을 쿠키에 저장
@@ -1,8 +1,11 @@
 package com.modswiskim.springbootlearn.config.oauth;
 
+import com.modswiskim.springbootlearn.config.CacheConfig;
 import com.modswiskim.springbootlearn.domain.User;
 import com.modswiskim.springbootlearn.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.modswiskim.springbootlearn.service.UserLookupCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -11,11 +14,18 @@ import org.springframework.stereotype.Service;
 
 import java.util.Map;
 
-@RequiredArgsConstructor
 @Service
 public class OAuth2UserCustomService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final Cache userClaimsCache;
+    private final UserLookupCache userLookupCache;
+
+    public OAuth2UserCustomService(UserRepository userRepository, CacheManager cacheManager, UserLookupCache userLookupCache) {
+        this.userRepository = userRepository;
+        this.userClaimsCache = cacheManager.getCache(CacheConfig.USER_CLAIMS);
+        this.userLookupCache = userLookupCache;
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -36,6 +46,9 @@ public class OAuth2UserCustomService extends DefaultOAuth2UserService {
                         .email(email)
                         .nickname(name)
                         .build());
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userClaimsCache.evict(savedUser.getId());   // 바뀐 유저 정보로 토큰을 발급하도록 캐시에서 제거
+        userLookupCache.evict(email);
+        return savedUser;
     }
 }
@@ -0,0 +1,79 @@
+package com.modswiskim.springbootlearn.config.pagination;
+
+import com.modswiskim.springbootlearn.config.jwt.JwtProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 페이지 커서를 (created_at, id) 위치로 인코딩/디코딩하는 클래스
+// 커서는 클라이언트가 위조할 수 없도록 HMAC 서명을 붙인 불투명한 문자열로 내려준다
+@Component
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;  // 초, 나노초, id
+    private static final int SIGNATURE_LENGTH = 16;
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(PaginationProperties paginationProperties, JwtProperties jwtProperties) {
+        String secret = paginationProperties.getCursorSecret() != null
+                ? paginationProperties.getCursorSecret()
+                : jwtProperties.getSecretKey();
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    // 마지막으로 내려준 글의 위치를 커서 문자열로 변환
+    public String encode(LocalDateTime createdAt, long id) {
+        ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_LENGTH + SIGNATURE_LENGTH)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        buffer.put(sign(buffer.array()));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    // 커서 문자열을 검증한 뒤 위치로 변환. 형식이 틀리거나 서명이 맞지 않으면 InvalidCursorException
+    public Position decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+
+        if(bytes.length != PAYLOAD_LENGTH + SIGNATURE_LENGTH
+                || !MessageDigest.isEqual(sign(bytes), Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, bytes.length))) {
+            throw new InvalidCursorException();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, PAYLOAD_LENGTH);
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        return new Position(createdAt, buffer.getLong());
+    }
+
+    // 앞쪽 페이로드 부분만 서명한다
+    private byte[] sign(byte[] bytes) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(bytes, 0, PAYLOAD_LENGTH);
+            return Arrays.copyOf(mac.doFinal(), SIGNATURE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Position(LocalDateTime createdAt, long id) {
+    }
+}
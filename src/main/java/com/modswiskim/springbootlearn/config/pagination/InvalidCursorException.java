@@ -0,0 +1,9 @@
+package com.modswiskim.springbootlearn.config.pagination;
+
+// 커서 형식이 틀리거나 서명이 맞지 않을 때 (400 Bad Request)
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException() {
+        super("Invalid cursor");
+    }
+}
@@ -0,0 +1,15 @@
+package com.modswiskim.springbootlearn.config.pagination;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("pagination")
+public class PaginationProperties {
+    private String cursorSecret;    // 커서 서명용 비밀값. 없으면 jwt 비밀값을 사용
+    private int maxSize = 100;      // 한 페이지에 담을 수 있는 최대 글 수
+}
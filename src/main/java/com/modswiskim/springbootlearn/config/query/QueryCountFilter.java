@@ -0,0 +1,71 @@
+package com.modswiskim.springbootlearn.config.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 요청마다 실행된 SQL 수를 세어 엔드포인트별 히스토그램(http.server.requests.queries{method, uri})으로 기록하고
+// 기준(query-inspection.request-query-threshold)을 넘으면 경고 로그를 남긴다
+// 시큐리티 필터와 뷰 캐시 필터에서 실행되는 SQL 까지 포함하도록 가장 먼저 실행된다
+// 요청 스레드의 SQL 만 센다(QueryCounter 는 ThreadLocal). 회원 가입(POST /user)처럼
+// 패스워드 해시 실행기(PasswordHasher) 스레드에서 이어서 실행되는 저장 쿼리는 세지 않으므로
+// 그 엔드포인트의 히스토그램과 assertMaxQueries 는 실제보다 적게 나온다
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryInspectionProperties properties;
+    // (method, uri) 별 히스토그램. 요청마다 빌더로 레지스트리를 조회하지 않도록 한 번 만들어 둔다
+    private final ConcurrentHashMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry meterRegistry, QueryInspectionProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try(QueryCounter.Scope scope = QueryCounter.start()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, scope);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCounter.Scope scope) {
+        // 경로 변수 대신 매핑 패턴(/api/articles/{id})으로 묶는다. 매핑되지 않은 요청은 UNKNOWN
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        String method = request.getMethod();
+        summaries.computeIfAbsent(method + ' ' + uri, key -> DistributionSummary.builder("http.server.requests.queries")
+                        .description("SQL statements executed per request")
+                        .baseUnit("queries")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(scope.count());
+
+        if(scope.count() > properties.getRequestQueryThreshold()) {
+            log.warn("{} {} executed {} queries ({} ms), over the threshold of {}", request.getMethod(), uri,
+                    scope.count(), scope.elapsedMillis(), properties.getRequestQueryThreshold());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.modswiskim.springbootlearn.config.query;
+
+// 현재 스레드에서 실행된 SQL 수와 시간을 세는 범위(scope)
+// 범위는 중첩할 수 있고, 안쪽 범위에서 실행된 SQL 은 바깥 범위에도 함께 더해진다
+//
+// try(QueryCounter.Scope scope = QueryCounter.start()) {
+//     ...
+//     scope.count();
+// }
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // 열려 있는 모든 범위에 SQL 한 건을 더한다 (열린 범위가 없으면 무시)
+    static void record(long elapsedMillis) {
+        for(Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.elapsedMillis += elapsedMillis;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int count;
+        private long elapsedMillis;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long elapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public void close() {
+            if(CURRENT.get() != this) {
+                return;
+            }
+            if(parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.modswiskim.springbootlearn.config.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// "dataSource" 빈을 datasource-proxy 로 감싸 모든 SQL 실행을 QueryInspectionListener 로 전달한다
+// 다른 이름의 데이터소스(예: 라우팅 데이터소스의 대상)는 감싸지 않아 같은 SQL 이 두 번 세어지지 않는다
+@Configuration
+public class QueryInspectionConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryInspectionDataSourcePostProcessor(ObjectProvider<QueryInspectionProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return bean;
+                }
+                QueryInspectionProperties inspectionProperties = properties.getObject();
+                if(!inspectionProperties.isEnabled()) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(DATA_SOURCE_BEAN_NAME)
+                        .listener(new QueryInspectionListener(inspectionProperties))
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.modswiskim.springbootlearn.config.query;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+// 데이터소스 프록시가 SQL 실행마다 호출하는 리스너 : 현재 범위의 SQL 수를 세고, 느린 SQL 을 로그로 남긴다
+// 바인드 파라미터 값은 개인정보(이메일, 토큰 해시 등)가 들어 있을 수 있어 개수만 남긴다
+@Slf4j
+class QueryInspectionListener implements QueryExecutionListener {
+
+    private final QueryInspectionProperties properties;
+
+    QueryInspectionListener(QueryInspectionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        QueryCounter.record(elapsedMillis);
+
+        if(elapsedMillis >= properties.getSlowQueryThreshold().toMillis()) {
+            for(QueryInfo queryInfo : queryInfoList) {
+                log.warn("Slow query ({} ms, batch size {}, parameters redacted) : {}", elapsedMillis,
+                        Math.max(execInfo.getBatchSize(), 1), queryInfo.getQuery());
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.modswiskim.springbootlearn.config.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("query-inspection")
+public class QueryInspectionProperties {
+    private boolean enabled = true;
+    private Duration slowQueryThreshold = Duration.ofMillis(200);  // 이보다 오래 걸린 SQL 은 경고 로그
+    private int requestQueryThreshold = 20;     // 한 요청에서 이보다 많은 SQL 을 실행하면 경고 로그 (N+1 의심)
+}
@@ -0,0 +1,47 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 메모리 버킷 : 토큰 버킷을 GCRA 로 표현해 버킷 하나를 AtomicLong(다음 요청의 이론상 도착 시각) 하나로 CAS 갱신한다
+// 버킷은 최대 maxKeys 개, idleTimeout 동안 쓰이지 않으면 제거되며, 제거된 버킷은 가득 찬 상태로 다시 시작한다
+public class InMemoryRateLimiterBackend implements RateLimiterBackend {
+
+    private static final Function<String, AtomicLong> NEW_BUCKET = key -> new AtomicLong(Long.MIN_VALUE);
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public InMemoryRateLimiterBackend(long maxKeys, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        return tryAcquire(buckets.get(key, NEW_BUCKET), rule, System.nanoTime());
+    }
+
+    // tat : 버킷이 가득 차는 시각. 요청 하나마다 interval 만큼 늦춰지고, now 보다 burst 이상 앞서면 거절
+    static RateLimitDecision tryAcquire(AtomicLong bucket, RateLimitRule rule, long now) {
+        long interval = rule.emissionIntervalNanos();
+        long burst = interval * rule.limit();
+        while(true) {
+            long tat = bucket.get();
+            long base = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+            long newTat = base + interval;
+            long allowAt = newTat - burst;
+            if(allowAt - now > 0) {
+                return new RateLimitDecision(false, 0, allowAt - now, tat - now);
+            }
+            if(bucket.compareAndSet(tat, newTat)) {
+                return new RateLimitDecision(true, (now - allowAt) / interval, 0, newTat - now);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    // RateLimiterBackend 빈(예: 공유 저장소 구현)을 등록하면 그것을, 없으면 인스턴스 메모리 버킷을 사용
+    // (사용자 설정 클래스의 @ConditionalOnMissingBean 은 빈 등록 순서에 따라 결과가 달라져 쓰지 않는다)
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, ObjectProvider<RateLimiterBackend> backend,
+                                           MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties,
+                backend.getIfAvailable(() -> new InMemoryRateLimiterBackend(properties.getMaxKeys(), properties.getIdleTimeout())),
+                meterRegistry);
+    }
+
+    // 시큐리티 필터 체인 안(WebOAuthSecurityConfig)에서만 실행되도록 서블릿 필터로는 등록하지 않는다
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,5 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+// 허용 여부와 응답 헤더에 쓸 값 (남은 요청 수, 다시 요청할 수 있을 때까지 / 버킷이 가득 찰 때까지 남은 나노초)
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterNanos, long resetNanos) {
+}
@@ -0,0 +1,111 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 경로별 요청 수 제한 : TokenAuthenticationFilter 다음에 실행되어 인증된 사용자는 사용자별로, 아니면 클라이언트 IP 별로 센다
+// 응답 헤더 RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset(초), 초과하면 429 와 Retry-After(초)
+// 메트릭 : rate.limit.rejected{route}
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RateLimitProperties properties;
+    private final RateLimiterBackend backend;
+    private final List<Route> routes = new ArrayList<>();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiterBackend backend, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.backend = backend;
+        for(RateLimitProperties.Route route : properties.getRoutes()) {
+            RateLimitRule rule = new RateLimitRule(route.getName(), route.getLimit(), route.getWindow());
+            Counter rejected = Counter.builder("rate.limit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("route", route.getName())
+                    .register(meterRegistry);
+            routes.add(new Route(matcher(route), rule, rejected, String.valueOf(route.getLimit())));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Route route = findRoute(request);
+        if(route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision = backend.tryAcquire(route.rule().name() + ":" + clientKey(request), route.rule());
+        response.setHeader(LIMIT_HEADER, route.limitHeader());
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(decision.resetNanos())));
+        if(!decision.allowed()) {
+            route.rejected().increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(decision.retryAfterNanos())));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        for(Route route : routes) {
+            if(route.matcher().matches(request)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // 인증된 사용자는 이름으로, 익명 요청은 IP 로 구분 (프록시 뒤라면 server.forward-headers-strategy 로 원래 IP 를 받는다)
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // 헤더 값은 초 단위로 올림
+    private static long toSeconds(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static RequestMatcher matcher(RateLimitProperties.Route route) {
+        if(route.getMethods() == null || route.getMethods().isEmpty()) {
+            return new AntPathRequestMatcher(route.getPattern());
+        }
+        List<RequestMatcher> matchers = route.getMethods().stream()
+                .map(method -> (RequestMatcher) new AntPathRequestMatcher(route.getPattern(), method))
+                .toList();
+        return new OrRequestMatcher(matchers);
+    }
+
+    private record Route(RequestMatcher matcher, RateLimitRule rule, Counter rejected, String limitHeader) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private long maxKeys = 100_000;                     // 메모리에 유지하는 (경로, 사용자/IP) 버킷 수
+    private Duration idleTimeout = Duration.ofMinutes(10);  // 이 시간 동안 요청이 없던 버킷은 제거
+    // 요청마다 위에서부터 처음 맞는 경로 하나만 적용. 설정하면 목록 전체가 바뀐다
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("token", "/api/token", List.of("POST"), 10, Duration.ofMinutes(1)),
+            new Route("article-write", "/api/articles/**", List.of("POST", "PUT", "DELETE"), 60, Duration.ofMinutes(1)),
+            new Route("api", "/api/**", List.of(), 600, Duration.ofMinutes(1))));
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        private String name;
+        private String pattern;                     // Ant 스타일 경로 패턴
+        private List<String> methods = List.of();   // 비어 있으면 모든 메서드
+        private long limit;                         // window 동안 허용하는 요청 수 (버킷 크기)
+        private Duration window = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,17 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+import java.time.Duration;
+
+// 한 경로에 적용하는 한도 : window 동안 limit 개 (버킷은 window / limit 마다 하나씩 다시 찬다)
+public record RateLimitRule(String name, long limit, Duration window) {
+
+    public RateLimitRule {
+        if(limit < 1 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("invalid rate limit : " + name);
+        }
+    }
+
+    public long emissionIntervalNanos() {
+        return Math.max(window.toNanos() / limit, 1);
+    }
+}
@@ -0,0 +1,9 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+// 버킷 저장소. 기본은 인스턴스 메모리(InMemoryRateLimiterBackend)이고,
+// 여러 인스턴스가 한도를 나눠 써야 하면 같은 인터페이스로 Redis 등 공유 저장소 구현을 빈으로 등록하면 된다
+public interface RateLimiterBackend {
+
+    // key 의 버킷에서 요청 하나를 꺼낸다
+    RateLimitDecision tryAcquire(String key, RateLimitRule rule);
+}
@@ -1,23 +1,52 @@
 package com.modswiskim.springbootlearn.controller;
 
+import com.modswiskim.springbootlearn.config.pagination.InvalidCursorException;
 import com.modswiskim.springbootlearn.domain.Article;
 import com.modswiskim.springbootlearn.dto.AddArticleRequest;
+import com.modswiskim.springbootlearn.dto.ArticleListVersion;
+import com.modswiskim.springbootlearn.dto.ArticlePageResponse;
 import com.modswiskim.springbootlearn.dto.ArticleResponse;
+import com.modswiskim.springbootlearn.dto.ArticleSearchResponse;
+import com.modswiskim.springbootlearn.dto.BatchArticleResponse;
+import com.modswiskim.springbootlearn.dto.PopularArticleResponse;
 import com.modswiskim.springbootlearn.dto.UpdateArticleRequest;
+import com.modswiskim.springbootlearn.service.ArticleBatchTooLargeException;
+import com.modswiskim.springbootlearn.service.ArticleSearchService;
+import com.modswiskim.springbootlearn.service.ArticleVersionMismatchException;
+import com.modswiskim.springbootlearn.service.ArticleViewCounter;
 import com.modswiskim.springbootlearn.service.BlogService;
+import com.modswiskim.springbootlearn.service.InvalidSearchPageException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @RestController
 public class BlogApiController {
 
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    // 캐시는 허용하되 매번 ETag / Last-Modified 로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final BlogService blogService;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleViewCounter articleViewCounter;
 
     @PostMapping("/api/articles")
     public ResponseEntity<Article> addArticle(@RequestBody AddArticleRequest request, Principal principal) {
@@ -28,23 +57,79 @@ public class BlogApiController {
                 .body(savedArticle);
     }
 
-    // 글 조회
+    // 글 일괄 등록 : 항목별 저장 결과를 요청 순서대로 응답
+    @PostMapping("/api/articles/batch")
+    public ResponseEntity<BatchArticleResponse> addArticles(@RequestBody List<AddArticleRequest> requests, Principal principal) {
+        return ResponseEntity.ok()
+                .body(blogService.saveAll(requests, principal.getName()));
+    }
+
+    // 글 조회 : 목록 버전이 클라이언트가 가진 것과 같으면 목록을 읽지 않고 304 응답
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleResponse::new)
-                .toList();
+    public ResponseEntity<List<ArticleResponse>> findAllArticles(WebRequest webRequest) {
+        ArticleListVersion version = blogService.findListVersion();
+        String eTag = "\"list-" + version.count() + "-" + version.maxId() + "-" + toEpochMicros(version.lastUpdatedAt()) + "\"";
+        long lastModified = toEpochMilli(version.lastUpdatedAt());
+        if(webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        List<ArticleResponse> articles = blogService.findAllResponses();
 
         return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(REVALIDATE)
                 .body(articles);
     }
 
+    // 글 페이지 조회 : size 파라미터가 있으면 커서 기반으로 나눠서 조회한다
+    @GetMapping(value = "/api/articles", params = "size")
+    public ResponseEntity<ArticlePageResponse> findArticlePage(@RequestParam int size,
+                                                               @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok()
+                .body(blogService.findPage(cursor, size));
+    }
+
+    // 글 전체 내보내기 : Content-Length 없이 응답 스트림에 바로 써서 chunked로 전송한다
+    @GetMapping("/api/articles/export")
+    public void exportArticles(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        blogService.exportTo(response.getOutputStream());
+    }
+
+    // 글 검색 : 제목/본문에서 관련도 순으로 찾는다. 마지막 단어는 접두어로도 찾는다
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ArticleSearchResponse> searchArticles(@RequestParam("q") String query,
+                                                                @RequestParam(defaultValue = "0") int page,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok()
+                .body(articleSearchService.search(query, page, size));
+    }
+
+    // 조회수 상위 글 : 메모리에 유지하는 상위 목록에서 응답 (몇 초 전까지 반영된 조회수 기준)
+    @GetMapping("/api/articles/popular")
+    public ResponseEntity<List<PopularArticleResponse>> findPopularArticles(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok()
+                .body(articleViewCounter.findPopular(limit));
+    }
+
+    // 글 단일 조회 : 글 캐시에서 버전을 확인해 바뀌지 않았으면 직렬화 없이 304 응답
     @GetMapping("/api/articles/{id}")
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id) { // url에서 값을 가져온다
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id, WebRequest webRequest) { // url에서 값을 가져온다
         Article article = blogService.findById(id);
+        articleViewCounter.increment(id);
+        String eTag = eTag(article);
+        long lastModified = toEpochMilli(article.getUpdatedAt());
+        if(webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
 
         return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(REVALIDATE)
                 .body(new ArticleResponse(article));
     }
 
@@ -56,11 +141,89 @@ public class BlogApiController {
                 .build();
     }
 
+    // 글 수정 : If-Match 에 조회 때 받은 ETag 를 보내면 그 사이 다른 수정이 없었을 때만 반영한다
     @PutMapping("/api/articles/{id}")
-    public ResponseEntity<Article> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request) {
-        Article updatedArticle = blogService.update(id, request);
+    public ResponseEntity<Article> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Article updatedArticle = blogService.update(id, request, expectedVersions(id, ifMatch));
 
         return ResponseEntity.ok()
+                .eTag(eTag(updatedArticle))
                 .body(updatedArticle);
     }
+
+    // If-Match 의 버전이 현재 버전과 다름 : 412 와 함께 현재 ETag 를 알려준다
+    @ExceptionHandler(ArticleVersionMismatchException.class)
+    public ResponseEntity<Void> handleVersionMismatch(ArticleVersionMismatchException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(eTag(e.getId(), e.getCurrentVersion()))
+                .build();
+    }
+
+    // 클라이언트가 보낸 커서가 올바르지 않음 : 400
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Void> handleInvalidCursor() {
+        return ResponseEntity.badRequest()
+                .build();
+    }
+
+    // 검색 size 나 page 가 허용 범위를 벗어남 : 400
+    @ExceptionHandler(InvalidSearchPageException.class)
+    public ResponseEntity<Void> handleInvalidSearchPage() {
+        return ResponseEntity.badRequest()
+                .build();
+    }
+
+    // 일괄 추가 요청이 너무 크면 413
+    @ExceptionHandler(ArticleBatchTooLargeException.class)
+    public ResponseEntity<Void> handleBatchTooLarge() {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .build();
+    }
+
+    // 커밋 시점에 다른 수정이 먼저 반영됨 (재시도 후에도 충돌하거나 If-Match 요청인 경우) : 409
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .build();
+    }
+
+    private static String eTag(Article article) {
+        return eTag(article.getId(), article.getVersion());
+    }
+
+    private static String eTag(long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // If-Match 헤더(쉼표로 구분한 ETag 목록)에서 이 글의 버전들을 꺼낸다. 헤더가 없거나 * 이면 null (버전 확인 없이 수정)
+    // If-Match 는 강한 비교이므로 W/ 가 붙은 값과 이 글의 ETag 형식이 아닌 값은 어떤 버전과도 맞지 않는다
+    // 맞을 수 있는 값이 하나도 없으면 빈 집합이 되어 412
+    private static Set<Long> expectedVersions(long id, String ifMatch) {
+        if(ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        Set<Long> versions = new HashSet<>();
+        for(String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if(!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(value.substring(prefix.length(), value.length() - 1)));
+            } catch (NumberFormatException e) {
+                // 이 글의 ETag 가 아님
+            }
+        }
+        return versions;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
 }
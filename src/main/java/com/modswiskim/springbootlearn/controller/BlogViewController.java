@@ -3,6 +3,7 @@ package com.modswiskim.springbootlearn.controller;
 import com.modswiskim.springbootlearn.domain.Article;
 import com.modswiskim.springbootlearn.dto.ArticleListViewResponse;
 import com.modswiskim.springbootlearn.dto.ArticleViewResponse;
+import com.modswiskim.springbootlearn.service.ArticleViewCounter;
 import com.modswiskim.springbootlearn.service.BlogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
@@ -18,12 +19,11 @@ import java.util.List;
 public class BlogViewController {
 
     private final BlogService blogService;
+    private final ArticleViewCounter articleViewCounter;
 
     @GetMapping("/articles")
     public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
-                .map(ArticleListViewResponse::new)
-                .toList();
+        List<ArticleListViewResponse> articles = blogService.findAllSummaries();
         model.addAttribute("articles", articles);
 
         return "articleList";
@@ -32,6 +32,7 @@ public class BlogViewController {
     @GetMapping("/articles/{id}")
     public String getArticle(@PathVariable Long id, Model model) {
         Article article = blogService.findById(id);
+        articleViewCounter.increment(id);
         model.addAttribute("article", new ArticleViewResponse(article));
 
         return "article";
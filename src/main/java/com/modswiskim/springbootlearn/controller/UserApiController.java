@@ -1,26 +1,44 @@
 package com.modswiskim.springbootlearn.controller;
 
+import com.modswiskim.springbootlearn.config.PasswordHashingProperties;
 import com.modswiskim.springbootlearn.dto.AddUserRequest;
 import com.modswiskim.springbootlearn.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RequiredArgsConstructor
 @Controller
 public class UserApiController {
 
     private final UserService userService;
+    private final PasswordHashingProperties passwordHashingProperties;
 
+    // 패스워드 해시가 끝날 때까지 요청 스레드를 붙잡지 않도록 비동기로 응답
     @PostMapping("/user")
-    public String signup(AddUserRequest request) {
-        userService.save(request);  // 회원가입 메서드 호출
-        return "redirect:/login";   // 회원가입이 완료된 이후에 로그인 페이지로 이동
+    public CompletableFuture<String> signup(AddUserRequest request) {
+        return userService.save(request)    // 회원가입 메서드 호출
+                .thenApply(id -> "redirect:/login");   // 회원가입이 완료된 이후에 로그인 페이지로 이동
+    }
+
+    // 해시 대기열이 가득 찼을 때 : 잠시 후 다시 시도하도록 503 응답
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Void> handleHashingSaturated() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordHashingProperties.getRetryAfter().toSeconds()))
+                .build();
     }
 
     @GetMapping("/logout")
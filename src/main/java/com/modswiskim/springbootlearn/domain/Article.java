@@ -14,11 +14,13 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_article_created_at_id", columnList = "created_at, id"))  // 커서 기반 페이지 조회용 인덱스
 @Entity
 public class Article {
     // Getter
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)    // id 를 50개씩 미리 받아 insert 를 배치로 묶는다
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -31,6 +33,10 @@ public class Article {
     @Column(name = "author", nullable = false)
     private String author;
 
+    @Version    // 수정할 때마다 1씩 증가. UPDATE ... WHERE version = ? 로 동시 수정을 감지한다
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder    // 빌더 패턴으로 객체 생성
     public Article(String title, String content, String author) {
         this.title = title;
@@ -0,0 +1,27 @@
+package com.modswiskim.springbootlearn.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 글별 누적 조회수. 조회할 때마다 갱신하지 않고 ArticleViewCounter 가 모아서 주기적으로 더한다
+// 글 삭제와 조회수 반영이 서로 막지 않도록 article 테이블과 외래 키를 두지 않는다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "article_view_count",
+        indexes = @Index(name = "idx_article_view_count_view_count", columnList = "view_count"))  // 시작할 때 상위 글만 읽는 용도
+@Entity
+public class ArticleViewCount {
+
+    @Id
+    @Column(name = "article_id", updatable = false)
+    private Long articleId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+}
@@ -1,14 +1,20 @@
 package com.modswiskim.springbootlearn.domain;
 
+import com.modswiskim.springbootlearn.util.HashUtil;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @NoArgsConstructor
 @Getter
 @Entity
 public class RefreshToken {
 
+    public static final Duration DEFAULT_DURATION = Duration.ofDays(14);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", updatable = false)
@@ -17,16 +23,27 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false, unique = true)
     private Long userId;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String refreshToken;
+    // 토큰 원문 대신 SHA-256 해시(16진수 64자)를 저장하고 유니크 인덱스로 조회한다
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // 만료 시각 : 지난 행은 RefreshTokenPurgeJob 이 삭제한다
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
     public RefreshToken(Long userId, String refreshToken) {
+        this(userId, refreshToken, LocalDateTime.now().plus(DEFAULT_DURATION));
+    }
+
+    public RefreshToken(Long userId, String refreshToken, LocalDateTime expiresAt) {
         this.userId = userId;
-        this.refreshToken = refreshToken;
+        this.tokenHash = HashUtil.sha256Hex(refreshToken);
+        this.expiresAt = expiresAt;
     }
 
-    public RefreshToken update(String newRefreshToken) {
-        this.refreshToken = newRefreshToken;
+    public RefreshToken update(String newRefreshToken, LocalDateTime expiresAt) {
+        this.tokenHash = HashUtil.sha256Hex(newRefreshToken);
+        this.expiresAt = expiresAt;
         return this;
     }
 }
@@ -0,0 +1,7 @@
+package com.modswiskim.springbootlearn.dto;
+
+import java.time.LocalDateTime;
+
+// 글 목록의 버전 : 글 수, 가장 최근 수정 시각, 가장 큰 id 중 하나라도 바뀌면 목록이 바뀐 것
+public record ArticleListVersion(long count, LocalDateTime lastUpdatedAt, Long maxId) {
+}
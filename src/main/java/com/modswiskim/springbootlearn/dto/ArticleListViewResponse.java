@@ -5,6 +5,8 @@ import lombok.Getter;
 
 @Getter
 public class ArticleListViewResponse {
+    public static final int SUMMARY_LENGTH = 200;   // 목록에 보여줄 본문 길이
+
     private final long id;
     private final String title;
     private final String content;
@@ -14,6 +16,12 @@ public class ArticleListViewResponse {
         this.title = article.getTitle();
         this.content = article.getContent();
     }
+
+    public ArticleListViewResponse(long id, String title, String content) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+    }
 }
 
 
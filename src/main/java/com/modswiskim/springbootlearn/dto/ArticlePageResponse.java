@@ -0,0 +1,13 @@
+package com.modswiskim.springbootlearn.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ArticlePageResponse {
+    private final List<ArticleResponse> articles;
+    private final String next;  // 다음 페이지 커서. 마지막 페이지면 null
+}
@@ -13,4 +13,9 @@ public class ArticleResponse {
         this.title = article.getTitle();
         this.content = article.getContent();
     }
+
+    public ArticleResponse(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
 }
@@ -0,0 +1,19 @@
+package com.modswiskim.springbootlearn.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ArticleSearchResponse {
+
+    private final long total;   // 검색된 글 수 (1,000건이 넘으면 근삿값일 수 있다)
+    private final int page;
+    private final int size;
+    private final List<Hit> hits;   // 관련도 높은 순
+
+    public record Hit(long id, String title, float score) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.modswiskim.springbootlearn.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BatchArticleResponse {
+
+    // FAILED 항목의 message (사유 코드)
+    public static final String CONSTRAINT_VIOLATION = "constraint_violation";  // 제약 조건 위반
+    public static final String STORAGE_ERROR = "storage_error";                // 그 밖의 저장 오류 (다시 시도할 수 있음)
+
+    private final int created;
+    private final int failed;
+    private final List<Result> results; // 요청 순서대로 항목별 처리 결과
+
+    public BatchArticleResponse(List<Result> results) {
+        this.created = (int) results.stream().filter(result -> result.status() == Status.CREATED).count();
+        this.failed = results.size() - created;
+        this.results = results;
+    }
+
+    public enum Status {
+        CREATED,    // 저장 성공
+        REJECTED,   // 요청 값이 올바르지 않아 저장하지 않음
+        FAILED      // 같은 묶음을 저장하는 중 오류가 발생해 저장되지 않음
+    }
+
+    public record Result(int index, Status status, Long id, String message) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.modswiskim.springbootlearn.dto;
+
+// 조회수 상위 글 (반영된 조회수 기준)
+public record PopularArticleResponse(long id, long views) {
+}
@@ -0,0 +1,5 @@
+package com.modswiskim.springbootlearn.dto;
+
+// 액세스 토큰에 들어가는 유저 정보 (sub : 이메일, id : 유저 아이디)
+public record UserClaims(long id, String email) {
+}
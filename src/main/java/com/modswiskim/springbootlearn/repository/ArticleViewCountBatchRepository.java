@@ -0,0 +1,22 @@
+package com.modswiskim.springbootlearn.repository;
+
+import com.modswiskim.springbootlearn.dto.PopularArticleResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 조회수 증가분을 JDBC 배치 한 번으로 더하는 쿼리 (ArticleViewCountRepository 의 구현 조각)
+public interface ArticleViewCountBatchRepository {
+
+    // article_id 별 증가분을 MERGE 로 더한다. 행이 없으면 새로 만든다
+    void addViews(List<Map.Entry<Long, Long>> deltas);
+
+    void removeViews(long articleId);
+
+    // 누적 조회수 상위 limit 개 (조회수 내림차순, 같으면 id 오름차순)
+    List<PopularArticleResponse> findTopViews(int limit);
+
+    // 주어진 글들의 누적 조회수 (행이 없는 글은 빠진다)
+    List<PopularArticleResponse> findViews(Collection<Long> articleIds);
+}
@@ -0,0 +1,58 @@
+package com.modswiskim.springbootlearn.repository;
+
+import com.modswiskim.springbootlearn.dto.PopularArticleResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ArticleViewCountBatchRepositoryImpl implements ArticleViewCountBatchRepository {
+
+    // article 에 없는 글(반영 전에 삭제된 글)은 USING 결과가 비어 건너뛴다
+    private static final String ADD_VIEWS = """
+            MERGE INTO article_view_count t
+            USING (SELECT a.id AS article_id, CAST(? AS BIGINT) AS delta FROM article a WHERE a.id = ?) s
+            ON t.article_id = s.article_id
+            WHEN MATCHED THEN UPDATE SET view_count = t.view_count + s.delta
+            WHEN NOT MATCHED THEN INSERT (article_id, view_count) VALUES (s.article_id, s.delta)
+            """;
+
+    private static final RowMapper<PopularArticleResponse> VIEWS = (rs, rowNum) ->
+            new PopularArticleResponse(rs.getLong("article_id"), rs.getLong("view_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addViews(List<Map.Entry<Long, Long>> deltas) {
+        jdbcTemplate.batchUpdate(ADD_VIEWS, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getValue());
+            ps.setLong(2, delta.getKey());
+        });
+    }
+
+    @Override
+    public void removeViews(long articleId) {
+        jdbcTemplate.update("DELETE FROM article_view_count WHERE article_id = ?", articleId);
+    }
+
+    @Override
+    public List<PopularArticleResponse> findTopViews(int limit) {
+        return jdbcTemplate.query("SELECT article_id, view_count FROM article_view_count"
+                + " ORDER BY view_count DESC, article_id LIMIT ?", VIEWS, limit);
+    }
+
+    @Override
+    public List<PopularArticleResponse> findViews(Collection<Long> articleIds) {
+        if(articleIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(articleIds.size(), "?"));
+        return jdbcTemplate.query("SELECT article_id, view_count FROM article_view_count WHERE article_id IN (" + placeholders + ")",
+                VIEWS, articleIds.toArray());
+    }
+}
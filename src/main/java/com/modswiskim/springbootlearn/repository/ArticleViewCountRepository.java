@@ -0,0 +1,7 @@
+package com.modswiskim.springbootlearn.repository;
+
+import com.modswiskim.springbootlearn.domain.ArticleViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleViewCountRepository extends JpaRepository<ArticleViewCount, Long>, ArticleViewCountBatchRepository {
+}
@@ -1,7 +1,53 @@
 package com.modswiskim.springbootlearn.repository;
 
 import com.modswiskim.springbootlearn.domain.Article;
+import com.modswiskim.springbootlearn.dto.ArticleListVersion;
+import com.modswiskim.springbootlearn.dto.ArticleListViewResponse;
+import com.modswiskim.springbootlearn.dto.ArticleResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface BlogRepository extends JpaRepository<Article, Long> {
+
+    // 커서 기반 페이지 조회 : (created_at, id) 인덱스 순서대로 읽으므로 몇 번째 페이지든 비용이 같다
+    @Query("select a from Article a order by a.createdAt desc, a.id desc")
+    List<Article> findFirstPage(Pageable pageable);
+
+    @Query("select a from Article a"
+            + " where a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)"
+            + " order by a.createdAt desc, a.id desc")
+    List<Article> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Pageable pageable);
+
+    // 전체 글 스트림 조회 : fetch size 단위로 커서를 앞으로만 읽어 모든 행을 한 번에 메모리에 올리지 않는다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Article a order by a.id")
+    Stream<Article> streamAll();
+
+    // 목록 버전만 집계 : 조건부 요청이면 목록 전체를 읽지 않고 이 값으로 변경 여부를 판단한다
+    @Query("select new com.modswiskim.springbootlearn.dto.ArticleListVersion(count(a), max(a.updatedAt), max(a.id))"
+            + " from Article a")
+    ArticleListVersion findListVersion();
+
+    // 목록 뷰용 : 엔티티 대신 필요한 컬럼만 DTO 로 조회하고, 본문은 DB 에서 요약 길이만큼 잘라 온다
+    @Query("select new com.modswiskim.springbootlearn.dto.ArticleListViewResponse(a.id, a.title,"
+            + " substring(a.content, 1, " + ArticleListViewResponse.SUMMARY_LENGTH + "))"
+            + " from Article a order by a.id")
+    List<ArticleListViewResponse> findAllSummaries();
+
+    // 목록 API 용 : 제목과 본문만 DTO 로 조회
+    @Query("select new com.modswiskim.springbootlearn.dto.ArticleResponse(a.title, a.content)"
+            + " from Article a order by a.id")
+    List<ArticleResponse> findAllResponses();
 }
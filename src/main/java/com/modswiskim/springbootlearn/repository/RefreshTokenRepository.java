@@ -1,11 +1,26 @@
 package com.modswiskim.springbootlearn.repository;
 
 import com.modswiskim.springbootlearn.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByUserId(Long userId);
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 만료된 행의 id 를 id 순서로 afterId 다음부터 조회 (기본키 범위 스캔이라 이미 지나온 행은 다시 읽지 않는다)
+    @Query("select r.id from RefreshToken r where r.id > :afterId and r.expiresAt < :now order by r.id")
+    List<Long> findExpiredIdsAfter(@Param("afterId") long afterId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조회한 뒤 그 사이에 교체되어 만료 시각이 바뀐 행은 지우지 않는다
+    @Modifying
+    @Query("delete from RefreshToken r where r.id in :ids and r.expiresAt < :now")
+    int deleteExpiredByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
 }
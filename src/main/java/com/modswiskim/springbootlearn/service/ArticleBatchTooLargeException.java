@@ -0,0 +1,17 @@
+package com.modswiskim.springbootlearn.service;
+
+import lombok.Getter;
+
+// 일괄 추가 요청의 글 수가 article-batch.max-items 를 넘을 때 (413 Payload Too Large)
+@Getter
+public class ArticleBatchTooLargeException extends RuntimeException {
+
+    private final int size;
+    private final int maxItems;
+
+    public ArticleBatchTooLargeException(int size, int maxItems) {
+        super("too many articles : " + size + " > " + maxItems);
+        this.size = size;
+        this.maxItems = maxItems;
+    }
+}
@@ -0,0 +1,24 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.domain.Article;
+
+// 블로그 글이 추가/수정/삭제되었을 때 발행하는 이벤트 (캐시 무효화 등에 사용)
+// 추가/수정은 바뀐 제목/본문을 함께 실어 리스너가 글을 다시 읽지 않아도 되게 한다 (삭제는 null)
+public record ArticleChangedEvent(long articleId, Type type, String title, String content) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ArticleChangedEvent created(Article article) {
+        return new ArticleChangedEvent(article.getId(), Type.CREATED, article.getTitle(), article.getContent());
+    }
+
+    public static ArticleChangedEvent updated(Article article) {
+        return new ArticleChangedEvent(article.getId(), Type.UPDATED, article.getTitle(), article.getContent());
+    }
+
+    public static ArticleChangedEvent deleted(long articleId) {
+        return new ArticleChangedEvent(articleId, Type.DELETED, null, null);
+    }
+}
@@ -0,0 +1,168 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.dto.ArticleSearchResponse;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 글 제목/본문에 대한 Lucene 역색인 (로컬 디스크 또는 메모리)
+// 쓰기는 IndexWriter 하나로, 읽기는 SearcherManager 가 refresh 할 때마다 최신 내용을 본다 (near-real-time)
+public class ArticleSearchIndex implements Closeable {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final float TITLE_BOOST = 2f;    // 제목에서 찾은 경우 본문보다 높은 점수
+    private static final int MAX_QUERY_TERMS = 10;
+    private static final String FINGERPRINT = "fingerprint";    // 커밋 user data : 색인한 시점의 DB 상태
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public ArticleSearchIndex(Path indexDir) throws IOException {
+        this(FSDirectory.open(indexDir));
+    }
+
+    public ArticleSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 글 하나를 색인. 같은 id 의 문서가 있으면 교체
+    public void index(long id, String title, String content) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(id), Field.Store.YES));
+        document.add(new TextField(TITLE, title, Field.Store.YES));
+        document.add(new TextField(CONTENT, content, Field.Store.NO));
+        writer.updateDocument(new Term(ID, Long.toString(id)), document);
+    }
+
+    public void remove(long id) throws IOException {
+        writer.deleteDocuments(new Term(ID, Long.toString(id)));
+    }
+
+    public void removeAll() throws IOException {
+        writer.deleteAll();
+    }
+
+    // 마지막 refresh 이후의 변경 사항을 검색에 반영
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    // 변경 사항을 디스크에 확정
+    public void commit() throws IOException {
+        writer.commit();
+    }
+
+    // 변경 사항과 함께 이 색인이 반영한 DB 상태를 확정
+    public void commit(String fingerprint) throws IOException {
+        writer.setLiveCommitData(Map.of(FINGERPRINT, fingerprint).entrySet());
+        writer.commit();
+    }
+
+    // 마지막으로 확정한 DB 상태 (없으면 null)
+    public String fingerprint() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if(commitData != null) {
+            for(Map.Entry<String, String> entry : commitData) {
+                if(FINGERPRINT.equals(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    // 관련도 순 검색. 검색어의 각 단어가 제목이나 본문에 있어야 하고, 마지막 단어는 접두어로도 찾는다
+    public ArticleSearchResponse search(String text, int page, int size) throws IOException {
+        Query query = buildQuery(text);
+        if(query == null) {
+            return new ArticleSearchResponse(0, page, size, List.of());
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, (page + 1) * size);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+
+            List<ArticleSearchResponse.Hit> hits = new ArrayList<>(size);
+            for(int i = page * size; i < scoreDocs.length; i++) {
+                Document document = searcher.doc(scoreDocs[i].doc);
+                hits.add(new ArticleSearchResponse.Hit(Long.parseLong(document.get(ID)), document.get(TITLE), scoreDocs[i].score));
+            }
+            return new ArticleSearchResponse(topDocs.totalHits.value, page, size, hits);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private Query buildQuery(String text) throws IOException {
+        List<String> terms = analyze(text);
+        if(terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for(int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(CONTENT, term)), BooleanClause.Occur.SHOULD);
+            if(i == terms.size() - 1) {   // 입력 중인 마지막 단어는 접두어 검색
+                anyField.add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                        .add(new PrefixQuery(new Term(CONTENT, term)), BooleanClause.Occur.SHOULD);
+            }
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    // 색인할 때와 같은 분석기로 검색어를 단어 단위로 나눈다
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        try(TokenStream tokenStream = analyzer.tokenStream(CONTENT, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while(tokenStream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        }
+        return terms;
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+}
@@ -0,0 +1,155 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.config.SearchProperties;
+import com.modswiskim.springbootlearn.domain.Article;
+import com.modswiskim.springbootlearn.dto.ArticleListVersion;
+import com.modswiskim.springbootlearn.dto.ArticleSearchResponse;
+import com.modswiskim.springbootlearn.repository.BlogRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.stream.Stream;
+
+// 글 전문 검색 : ArticleChangedEvent 로 색인을 글 하나씩 갱신하고, 변경 사항은 1초 안에 검색에 반영된다
+// 실행 인자 --rebuild-search-index 를 주거나 색인에 기록된 DB 상태(글 수, 최대 id, 최근 수정 시각)가 지금과 다르면 시작할 때 전체 재색인
+@Slf4j
+@Service
+public class ArticleSearchService implements ApplicationRunner, DisposableBean {
+
+    public static final String REBUILD_OPTION = "rebuild-search-index";
+
+    private final ArticleSearchIndex index;
+    private final BlogRepository blogRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SearchProperties searchProperties;
+
+    public ArticleSearchService(SearchProperties searchProperties, BlogRepository blogRepository,
+                                EntityManager entityManager, PlatformTransactionManager transactionManager) throws IOException {
+        if(searchProperties.getIndexDir() == null) {   // 색인 위치를 정하지 않으면 컨텍스트마다 메모리 색인
+            this.index = new ArticleSearchIndex(new ByteBuffersDirectory());
+        } else {
+            Files.createDirectories(searchProperties.getIndexDir());
+            this.index = new ArticleSearchIndex(searchProperties.getIndexDir());
+        }
+        this.blogRepository = blogRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.searchProperties = searchProperties;
+    }
+
+    public ArticleSearchResponse search(String query, int page, int size) {
+        if(size < 1 || size > searchProperties.getMaxPageSize()) {
+            throw new InvalidSearchPageException("size must be between 1 and " + searchProperties.getMaxPageSize());
+        }
+        if(page < 0 || (long) (page + 1) * size > searchProperties.getMaxResultWindow()) {
+            throw new InvalidSearchPageException("page out of range : " + page);
+        }
+
+        try {
+            return index.search(query, page, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 트랜잭션이 커밋된 뒤 바뀐 글만 다시 색인 (트랜잭션 밖에서 발행된 이벤트는 바로 처리)
+    // 이벤트에 실린 제목/본문으로 색인하므로 일괄 등록한 글 수만큼 DB 를 다시 읽지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            if(event.type() == ArticleChangedEvent.Type.DELETED) {
+                index.remove(event.articleId());
+                return;
+            }
+            if(event.title() != null && event.content() != null) {
+                index.index(event.articleId(), event.title(), event.content());
+                return;
+            }
+
+            Article article = blogRepository.findById(event.articleId()).orElse(null);
+            if(article == null) {
+                index.remove(event.articleId());
+            } else {
+                index.index(article.getId(), article.getTitle(), article.getContent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 전체 재색인 : 색인을 비우고 모든 글을 스트림으로 읽어 다시 색인한다
+    public synchronized long rebuild() {
+        try {
+            String fingerprint = fingerprint();    // 재색인 중에 바뀐 글이 있으면 다음 시작 때 다시 재색인되도록 먼저 기록
+            index.removeAll();
+            long count = readOnlyTransaction.execute(status -> {
+                long indexed = 0;
+                try(Stream<Article> articles = blogRepository.streamAll()) {
+                    for(Article article : (Iterable<Article>) articles::iterator) {
+                        index.index(article.getId(), article.getTitle(), article.getContent());
+                        entityManager.detach(article);  // 영속성 컨텍스트에 쌓이지 않도록
+                        indexed++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return indexed;
+            });
+            index.commit(fingerprint);
+            index.refresh();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if(args.containsOption(REBUILD_OPTION) || !fingerprint().equals(index.fingerprint())) {
+            long start = System.nanoTime();
+            long count = rebuild();
+            log.info("Rebuilt article search index : {} articles in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    // 색인 변경 사항을 검색에 반영 (near-real-time)
+    @Scheduled(fixedDelayString = "${search.refresh-interval:1000}")
+    public void refresh() throws IOException {
+        index.refresh();
+    }
+
+    // 색인 변경 사항을 디스크에 확정
+    @Scheduled(fixedDelayString = "${search.commit-interval:60000}")
+    public void commit() throws IOException {
+        index.commit(fingerprint());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        try {
+            index.commit(fingerprint());
+        } finally {
+            index.close();
+        }
+    }
+
+    // 색인이 반영해야 하는 DB 상태
+    private String fingerprint() {
+        ArticleListVersion version = blogRepository.findListVersion();
+        return version.count() + ":" + version.maxId() + ":" + version.lastUpdatedAt();
+    }
+}
@@ -0,0 +1,17 @@
+package com.modswiskim.springbootlearn.service;
+
+import lombok.Getter;
+
+// If-Match 로 받은 버전이 현재 글 버전과 다를 때 (412 Precondition Failed)
+@Getter
+public class ArticleVersionMismatchException extends RuntimeException {
+
+    private final long id;
+    private final long currentVersion;
+
+    public ArticleVersionMismatchException(long id, long currentVersion) {
+        super("version mismatch : " + id);
+        this.id = id;
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,212 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.config.ArticleViewProperties;
+import com.modswiskim.springbootlearn.dto.PopularArticleResponse;
+import com.modswiskim.springbootlearn.repository.ArticleViewCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 글 조회수 : 요청 스레드는 글별 LongAdder 만 올리고, 모인 증가분은 주기적으로 article_view_count 에 배치 MERGE 로 더한다
+// 메모리에는 누적값 상위 topSize 개만 두고 /api/articles/popular 에 응답한다 (DB 조회 없음)
+// 시작할 때 상위 topSize 행만 읽고, flush 때는 반영한 글의 새 누적값만 읽어 기존 상위 목록과 합쳐 다시 고른다
+// 종료할 때 남은 증가분을 한 번 더 반영한다
+// 메트릭 : article.views.flushed (반영한 조회수), article.views.pending (아직 반영되지 않은 조회수),
+//         article.views.flush.lag (마지막으로 반영에 성공한 뒤 지난 시간)
+@Slf4j
+@Service
+public class ArticleViewCounter implements ApplicationRunner, DisposableBean {
+
+    private static final Comparator<PopularArticleResponse> BY_VIEWS = Comparator
+            .comparingLong(PopularArticleResponse::views)
+            .thenComparing(Comparator.comparingLong(PopularArticleResponse::id).reversed());
+
+    private final ArticleViewCountRepository articleViewCountRepository;
+    private final ArticleViewProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+    private final Counter flushedViews;
+
+    // 아직 반영되지 않은 증가분. 항목을 지우면 그 LongAdder 를 들고 있던 요청의 증가분이 사라지므로 글 삭제 때만 지운다
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 누적값 상위 글, 조회수 내림차순 (flush / 삭제 처리에서만 바뀌며 둘 다 synchronized)
+    private volatile List<PopularArticleResponse> top = List.of();
+    private volatile long lastFlushedAt = System.nanoTime();
+
+    public ArticleViewCounter(ArticleViewCountRepository articleViewCountRepository, ArticleViewProperties properties,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.articleViewCountRepository = articleViewCountRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 커밋 후 이벤트 리스너에서는 끝난 트랜잭션의 리소스가 아직 묶여 있어 새 트랜잭션으로 실행
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushedViews = Counter.builder("article.views.flushed")
+                .description("Article views written to article_view_count")
+                .register(meterRegistry);
+        Gauge.builder("article.views.pending", this, ArticleViewCounter::pendingViews)
+                .description("Article views counted in memory but not yet written")
+                .register(meterRegistry);
+        TimeGauge.builder("article.views.flush.lag", this, TimeUnit.NANOSECONDS, counter -> System.nanoTime() - counter.lastFlushedAt)
+                .description("Time since the last successful view count flush")
+                .register(meterRegistry);
+    }
+
+    // 조회 1회 (요청 스레드)
+    public void increment(long articleId) {
+        LongAdder adder = pending.get(articleId);
+        if(adder == null) {
+            adder = pending.computeIfAbsent(articleId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    // limit 은 1 ~ topSize 로 맞춘다
+    public List<PopularArticleResponse> findPopular(int limit) {
+        int size = Math.max(1, Math.min(limit, properties.getTopSize()));
+        List<PopularArticleResponse> snapshot = top;
+        return snapshot.subList(0, Math.min(size, snapshot.size()));
+    }
+
+    // 시작할 때 누적값 상위 topSize 개만 읽는다
+    @Override
+    public synchronized void run(ApplicationArguments args) {
+        top = List.copyOf(articleViewCountRepository.findTopViews(properties.getTopSize()));
+    }
+
+    @Scheduled(fixedDelayString = "${article-views.flush-interval:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if(delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+        if(deltas.isEmpty()) {
+            lastFlushedAt = System.nanoTime();
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        List<PopularArticleResponse> flushedTotals = new ArrayList<>(entries.size());
+        int batchSize = properties.getBatchSize();
+        for(int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> batch = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            try {
+                // 더한 뒤의 누적값을 같은 트랜잭션에서 읽는다
+                List<PopularArticleResponse> totals = transactionTemplate.execute(status -> {
+                    articleViewCountRepository.addViews(batch);
+                    return articleViewCountRepository.findViews(batch.stream().map(Map.Entry::getKey).toList());
+                });
+                flushedTotals.addAll(totals);
+                removeDeleted(batch, totals);
+            } catch (RuntimeException e) {
+                // 반영하지 못한 묶음은 다음 flush 때 다시 시도
+                entries.subList(from, entries.size()).forEach(entry -> increment(entry.getKey(), entry.getValue()));
+                log.warn("Failed to flush article views, {} articles will be retried", entries.size() - from, e);
+                entries = entries.subList(0, from);
+                break;
+            }
+        }
+
+        flushedViews.increment(entries.stream().mapToLong(Map.Entry::getValue).sum());
+        if(entries.size() == deltas.size()) {
+            lastFlushedAt = System.nanoTime();
+        }
+
+        // 누적값은 늘어나기만 하므로 기존 상위 글과 이번에 바뀐 글 중에서만 다시 고르면 된다
+        Map<Long, Long> candidates = new HashMap<>();
+        top.forEach(article -> candidates.put(article.id(), article.views()));
+        flushedTotals.forEach(article -> candidates.put(article.id(), article.views()));
+        top = selectTop(candidates);
+    }
+
+    // 글이 삭제되면(커밋 후) 조회수도 지우고, 상위 목록에 있었다면 DB 에서 상위 topSize 개를 다시 읽는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onArticleChanged(ArticleChangedEvent event) {
+        if(event.type() != ArticleChangedEvent.Type.DELETED) {
+            return;
+        }
+
+        long id = event.articleId();
+        pending.remove(id);
+        newTransaction.executeWithoutResult(status -> articleViewCountRepository.removeViews(id));
+        if(top.stream().anyMatch(article -> article.id() == id)) {
+            top = List.copyOf(articleViewCountRepository.findTopViews(properties.getTopSize()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    // 삭제 처리 뒤에 늦게 들어온 조회는 addViews 가 건너뛰므로 누적값이 없다. 그 글의 LongAdder 도 치운다
+    private void removeDeleted(List<Map.Entry<Long, Long>> batch, List<PopularArticleResponse> totals) {
+        if(totals.size() == batch.size()) {
+            return;
+        }
+        Set<Long> existing = new HashSet<>();
+        totals.forEach(article -> existing.add(article.id()));
+        batch.stream()
+                .map(Map.Entry::getKey)
+                .filter(id -> !existing.contains(id))
+                .forEach(pending::remove);
+    }
+
+    private void increment(long articleId, long delta) {
+        pending.computeIfAbsent(articleId, key -> new LongAdder()).add(delta);
+    }
+
+    // 크기 topSize 의 최소 힙으로 상위 글을 골라 조회수 내림차순으로 정렬
+    // 힙이 차면 맨 위(가장 적은 조회수)가 입장 기준이 되어, 그보다 크지 않은 후보는 넣지 않는다
+    private List<PopularArticleResponse> selectTop(Map<Long, Long> candidates) {
+        int size = properties.getTopSize();
+        PriorityQueue<PopularArticleResponse> heap = new PriorityQueue<>(size, BY_VIEWS);
+        candidates.forEach((id, views) -> {
+            PopularArticleResponse candidate = new PopularArticleResponse(id, views);
+            if(heap.size() < size) {
+                heap.offer(candidate);
+            } else if(BY_VIEWS.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(candidate);
+            }
+        });
+
+        List<PopularArticleResponse> result = new ArrayList<>(heap);
+        result.sort(BY_VIEWS.reversed());
+        return List.copyOf(result);
+    }
+
+    private double pendingViews() {
+        long sum = 0;
+        for(LongAdder adder : pending.values()) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+}
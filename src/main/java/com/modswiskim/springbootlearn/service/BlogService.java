@@ -1,25 +1,134 @@
 package com.modswiskim.springbootlearn.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.modswiskim.springbootlearn.config.ArticleBatchProperties;
+import com.modswiskim.springbootlearn.config.ArticleUpdateProperties;
+import com.modswiskim.springbootlearn.config.CacheConfig;
+import com.modswiskim.springbootlearn.config.datasource.ReadYourWritesTracker;
+import com.modswiskim.springbootlearn.config.pagination.CursorCodec;
+import com.modswiskim.springbootlearn.config.pagination.PaginationProperties;
 import com.modswiskim.springbootlearn.domain.Article;
 import com.modswiskim.springbootlearn.dto.AddArticleRequest;
+import com.modswiskim.springbootlearn.dto.ArticleListVersion;
+import com.modswiskim.springbootlearn.dto.ArticleListViewResponse;
+import com.modswiskim.springbootlearn.dto.ArticlePageResponse;
+import com.modswiskim.springbootlearn.dto.ArticleResponse;
+import com.modswiskim.springbootlearn.dto.BatchArticleResponse;
 import com.modswiskim.springbootlearn.dto.UpdateArticleRequest;
 import com.modswiskim.springbootlearn.repository.BlogRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
+@Slf4j
 @RequiredArgsConstructor    // final이 붙거나 @NotNull이 붙은 필드의 생성자 추가
+@Observed(name = "blog.service")
 @Service
 public class BlogService {
 
     private final BlogRepository blogRepository;
+    private final CursorCodec cursorCodec;
+    private final PaginationProperties paginationProperties;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleBatchProperties articleBatchProperties;
+    private final ArticleUpdateProperties articleUpdateProperties;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     // 블로그 글 추가
+    @CachePut(cacheNames = CacheConfig.ARTICLES, key = "#result.id")
     public Article save(AddArticleRequest request, String username) {
-        return blogRepository.save(request.toEntity(username));
+        Article article = blogRepository.save(request.toEntity(username));
+        eventPublisher.publishEvent(ArticleChangedEvent.created(article));
+        return article;
+    }
+
+    // 블로그 글 일괄 추가 : jdbcBatchSize 개씩 나눠서 묶음마다 하나의 트랜잭션, 하나의 JDBC 배치로 저장한다
+    // 한 묶음이 실패해도 다른 묶음은 저장되며, 결과는 요청 순서대로 항목별로 돌려준다
+    public BatchArticleResponse saveAll(List<AddArticleRequest> requests, String username) {
+        if(requests.size() > articleBatchProperties.getMaxItems()) {
+            throw new ArticleBatchTooLargeException(requests.size(), articleBatchProperties.getMaxItems());
+        }
+
+        int batchSize = articleBatchProperties.getJdbcBatchSize();
+        List<BatchArticleResponse.Result> results = new ArrayList<>(requests.size());
+        for(int from = 0; from < requests.size(); from += batchSize) {
+            List<AddArticleRequest> chunk = requests.subList(from, Math.min(from + batchSize, requests.size()));
+            results.addAll(saveChunk(from, chunk, username));
+        }
+        results.sort(Comparator.comparingInt(BatchArticleResponse.Result::index));
+
+        return new BatchArticleResponse(results);
+    }
+
+    private List<BatchArticleResponse.Result> saveChunk(int offset, List<AddArticleRequest> chunk, String username) {
+        List<BatchArticleResponse.Result> results = new ArrayList<>(chunk.size());
+        List<Integer> indexes = new ArrayList<>(chunk.size());
+        List<Article> articles = new ArrayList<>(chunk.size());
+
+        for(int i = 0; i < chunk.size(); i++) {
+            AddArticleRequest request = chunk.get(i);
+            if(request == null || isBlank(request.getTitle()) || isBlank(request.getContent())) {
+                results.add(new BatchArticleResponse.Result(offset + i, BatchArticleResponse.Status.REJECTED,
+                        null, "title and content are required"));
+                continue;
+            }
+            indexes.add(offset + i);
+            articles.add(request.toEntity(username));
+        }
+        if(articles.isEmpty()) {
+            return results;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                articles.forEach(entityManager::persist);
+                entityManager.flush();  // 묶음 전체를 JDBC 배치로 전송
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            // 예외 메시지(SQL, 제약 조건 이름 등)는 로그에만 남기고 응답에는 정해진 사유 코드만 담는다
+            log.warn("Failed to save article batch items {}..{}", indexes.get(0), indexes.get(indexes.size() - 1), e);
+            String reason = e instanceof DataIntegrityViolationException
+                    ? BatchArticleResponse.CONSTRAINT_VIOLATION : BatchArticleResponse.STORAGE_ERROR;
+            for(Integer index : indexes) {
+                results.add(new BatchArticleResponse.Result(index, BatchArticleResponse.Status.FAILED, null, reason));
+            }
+            return results;
+        }
+
+        for(int i = 0; i < articles.size(); i++) {
+            Article article = articles.get(i);
+            results.add(new BatchArticleResponse.Result(indexes.get(i), BatchArticleResponse.Status.CREATED, article.getId(), null));
+            eventPublisher.publishEvent(ArticleChangedEvent.created(article));
+        }
+        return results;
     }
 
     // 블로그 글 전체 조회
@@ -27,33 +136,138 @@ public class BlogService {
         return blogRepository.findAll();
     }
 
-    // 블로그 글 단일 조회
+    // 블로그 글 목록 뷰 조회 : 엔티티를 만들지 않고 id, 제목, 본문 요약만 읽는다
+    @Transactional(readOnly = true)
+    public List<ArticleListViewResponse> findAllSummaries() {
+        return readYourWritesTracker.readList(blogRepository::findAllSummaries);
+    }
+
+    // 블로그 글 목록 API 조회 : 엔티티를 만들지 않고 제목, 본문만 읽는다
+    @Transactional(readOnly = true)
+    public List<ArticleResponse> findAllResponses() {
+        return readYourWritesTracker.readList(blogRepository::findAllResponses);
+    }
+
+    // 블로그 글 목록 버전 조회
+    @Transactional(readOnly = true)
+    public ArticleListVersion findListVersion() {
+        return readYourWritesTracker.readList(blogRepository::findListVersion);
+    }
+
+    // 블로그 글 전체 내보내기 : 한 줄에 글 하나씩 NDJSON으로 출력 스트림에 바로 쓴다
+    // 한 행씩 읽고 쓴 뒤 영속성 컨텍스트에서 분리하므로 글 수와 상관없이 힙 사용량이 일정하다
+    @Transactional(readOnly = true)
+    public void exportTo(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ArticleResponse.class);
+
+        try(Stream<Article> articles = blogRepository.streamAll()) {
+            Iterator<Article> iterator = articles.iterator();
+            while(iterator.hasNext()) {
+                Article article = iterator.next();
+                out.write(writer.writeValueAsBytes(new ArticleResponse(article)));
+                out.write('\n');
+                entityManager.detach(article);
+            }
+        }
+        out.flush();
+    }
+
+    // 블로그 글 커서 기반 페이지 조회 : 커서가 가리키는 글 다음부터 size 개를 조회한다
+    @Transactional(readOnly = true)
+    public ArticlePageResponse findPage(String cursor, int size) {
+        return readYourWritesTracker.readList(() -> readPage(cursor, size));
+    }
+
+    private ArticlePageResponse readPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), paginationProperties.getMaxSize());
+        Pageable limit = PageRequest.of(0, pageSize + 1);   // 다음 페이지가 있는지 알기 위해 하나 더 조회
+
+        List<Article> articles;
+        if(cursor == null) {
+            articles = blogRepository.findFirstPage(limit);
+        } else {
+            CursorCodec.Position position = cursorCodec.decode(cursor);
+            articles = blogRepository.findPageAfter(position.createdAt(), position.id(), limit);
+        }
+
+        String next = null;
+        if(articles.size() > pageSize) {
+            articles = articles.subList(0, pageSize);
+            Article last = articles.get(pageSize - 1);
+            next = cursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new ArticlePageResponse(articles.stream()
+                .map(ArticleResponse::new)
+                .toList(), next);
+    }
+
+    // 블로그 글 단일 조회 : 캐시에 없을 때만 DB 에서 읽어온다 (같은 id 의 동시 조회는 한 번만 읽음)
+    @Cacheable(cacheNames = CacheConfig.ARTICLES, key = "#id", sync = true)
     public Article findById(long id) {
-        return blogRepository.findById(id)
+        return readYourWritesTracker.readArticle(id, () -> blogRepository.findById(id))   // 방금 바뀐 글은 primary 에서
                 .orElseThrow(() -> new IllegalArgumentException("not found: "+id)); // id를 받아 엔티티를 조회하고 없으면 IllegalArgumentException 예외를 발생시킨다.
     }
 
     // 블로그 글 삭제
+    @CacheEvict(cacheNames = CacheConfig.ARTICLES, key = "#id")
     public void delete(long id) {
         Article article = blogRepository.findById(id)
                         .orElseThrow(() -> new IllegalArgumentException("not found : " + id));
 
         authorizeArticleAuthor(article);
         blogRepository.deleteById(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.deleted(id));
+    }
+
+    // 블로그 글 수정 : 커밋된 후 캐시에서 제거
+    // expectedVersions(If-Match) 가 있으면 현재 버전이 그중 하나일 때만 수정하고, 아니면 ArticleVersionMismatchException
+    // 없으면 제목/본문을 통째로 바꾸는 멱등한 수정이므로 동시 수정과 충돌하면 새 트랜잭션에서 다시 시도한다
+    @CacheEvict(cacheNames = CacheConfig.ARTICLES, key = "#id")
+    public Article update(long id, UpdateArticleRequest request, Set<Long> expectedVersions) {
+        for(int attempt = 1; ; attempt++) {
+            try {
+                // 트랜잭션 : 엔티티의 필드 값이 바뀌면 커밋할 때 version 조건이 붙은 UPDATE 로 반영된다
+                return transactionTemplate.execute(status -> updateOnce(id, request, expectedVersions));
+            } catch (OptimisticLockingFailureException e) {
+                if(expectedVersions != null || attempt >= articleUpdateProperties.getMaxAttempts()) {
+                    throw e;
+                }
+                backOff(attempt, e);
+            }
+        }
     }
 
-    // 블로그 글 수정
-    @Transactional  // 매칭한 메서드를 하나의 트랜잭션으로 묶는 역할 (트랜잭션 : 데이터베이스의 데이터를 바꾸기 위한 단위 작업) 엔티티의 필드 값이 바뀌면 중간에 에러가 발생해도 제대로된 값 수정을 보장한다.
-    public Article update(long id, UpdateArticleRequest request) {
+    private Article updateOnce(long id, UpdateArticleRequest request, Set<Long> expectedVersions) {
         Article article = blogRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found: "+id));
 
         authorizeArticleAuthor(article);
+        if(expectedVersions != null && !expectedVersions.contains(article.getVersion())) {
+            throw new ArticleVersionMismatchException(id, article.getVersion());
+        }
         article.update(request.getTitle(), request.getContent());
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(article));
 
         return article;
     }
 
+    // 지수 백오프 + 무작위 대기 : 같은 글을 수정하는 요청들이 같은 시점에 다시 부딪히지 않도록
+    private void backOff(int attempt, OptimisticLockingFailureException cause) {
+        long ceiling = Math.min(articleUpdateProperties.getMaxBackoff().toMillis(),
+                articleUpdateProperties.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     // 게시글을 작성한 유저인지 확인
     private static void authorizeArticleAuthor(Article article) {
         String userName = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -0,0 +1,9 @@
+package com.modswiskim.springbootlearn.service;
+
+// 검색 size 가 1 ~ search.max-page-size 를 벗어나거나 page 가 결과 범위(search.max-result-window)를 넘을 때 (400 Bad Request)
+public class InvalidSearchPageException extends IllegalArgumentException {
+
+    public InvalidSearchPageException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 패스워드 해시 전용 실행기 : 요청 스레드 대신 크기가 정해진 스레드 풀에서 BCrypt 를 계산한다
+// 대기열이 가득 차면 RejectedExecutionException 을 던져 바로 거절한다 (UserApiController 에서 503)
+// 메트릭 : password.hash (해시 시간 히스토그램), password.hash.queue (대기 중인 작업 수)
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+
+    public PasswordHasher(BCryptPasswordEncoder encoder, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.encoder = encoder;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("password.hash")
+                .description("Time to compute one password hash")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) throws RejectedExecutionException {
+        return CompletableFuture.supplyAsync(() -> hashTimer.record(() -> encoder.encode(rawPassword)), executor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,75 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.config.RefreshTokenPurgeProperties;
+import com.modswiskim.springbootlearn.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 만료된 리프레시 토큰 삭제 : id 키셋으로 batchSize 개씩 나눠서, 묶음마다 짧은 트랜잭션으로 삭제한다
+// 한 번에 지우는 행 수가 작아 /api/token 의 조회/교체와 오래 경합하지 않는다
+// 메트릭 : refresh.tokens.purged (삭제한 행 수), refresh.tokens.purge.batch (묶음별 소요 시간)
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenPurgeProperties properties;
+    private final Counter purgedRows;
+    private final Timer batchTimer;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository, TransactionTemplate transactionTemplate,
+                                RefreshTokenPurgeProperties properties, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.purgedRows = Counter.builder("refresh.tokens.purged")
+                .description("Expired refresh token rows deleted")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("refresh.tokens.purge.batch")
+                .description("Time to select and delete one batch of expired refresh tokens")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token-purge.interval:3600000}", initialDelayString = "${refresh-token-purge.interval:3600000}")
+    public void run() {
+        if(properties.isEnabled()) {
+            purge(LocalDateTime.now());
+        }
+    }
+
+    // now 이전에 만료된 행을 모두 삭제하고 삭제한 행 수를 반환
+    public long purge(LocalDateTime now) {
+        PageRequest batch = PageRequest.of(0, properties.getBatchSize());
+        long afterId = 0;
+        long purged = 0;
+
+        for(int i = 0; i < properties.getMaxBatches(); i++) {
+            Timer.Sample sample = Timer.start();
+            List<Long> ids = refreshTokenRepository.findExpiredIdsAfter(afterId, now, batch);
+            if(ids.isEmpty()) {
+                break;
+            }
+
+            int deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpiredByIds(ids, now));
+            sample.stop(batchTimer);
+            purgedRows.increment(deleted);
+            purged += deleted;
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        if(purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+        return purged;
+    }
+}
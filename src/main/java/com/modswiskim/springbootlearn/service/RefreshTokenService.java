@@ -1,17 +1,58 @@
 package com.modswiskim.springbootlearn.service;
 
+import com.modswiskim.springbootlearn.config.CacheConfig;
 import com.modswiskim.springbootlearn.domain.RefreshToken;
 import com.modswiskim.springbootlearn.repository.RefreshTokenRepository;
-import lombok.RequiredArgsConstructor;
+import com.modswiskim.springbootlearn.util.HashUtil;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-@RequiredArgsConstructor
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 리프레시 토큰 저장소 : DB 에는 토큰 해시를 저장하고, 메모리(refreshTokens 캐시)에는 유저마다 현재 토큰 해시를 둔다
+// 메모리에서 확인되면 DB 를 조회하지 않고, 없을 때만 token_hash 유니크 인덱스로 조회한다
 @Service
 public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache currentTokenHashes;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, CacheManager cacheManager) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.currentTokenHashes = cacheManager.getCache(CacheConfig.REFRESH_TOKENS);
+    }
 
     public RefreshToken findByRefreshToken(String refreshToekn) {
-        return refreshTokenRepository.findByRefreshToken(refreshToekn)
+        return refreshTokenRepository.findByTokenHash(HashUtil.sha256Hex(refreshToekn))
+                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+    }
+
+    // 리프레시 토큰의 유저 id 조회. tokenUserId 는 토큰의 id 클레임 (없으면 null)
+    public Long findUserIdByRefreshToken(String refreshToken, Long tokenUserId) {
+        String tokenHash = HashUtil.sha256Hex(refreshToken);
+        if(tokenUserId != null && tokenHash.equals(currentTokenHashes.get(tokenUserId, String.class))) {
+            return tokenUserId;
+        }
+
+        RefreshToken entity = refreshTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+        // 그 사이 토큰이 교체되었다면 교체된 값을 덮어쓰지 않도록 비어 있을 때만 채운다
+        currentTokenHashes.putIfAbsent(entity.getUserId(), tokenHash);
+        return entity.getUserId();
+    }
+
+    // 유저의 리프레시 토큰 교체 : DB 에 저장하고, 커밋된 뒤 메모리의 값도 새 토큰으로 바꾼다
+    // 이전 토큰은 메모리에서 더 이상 일치하지 않고 DB 에도 없으므로 바로 사용할 수 없다
+    @Transactional
+    public void rotate(Long userId, String newRefreshToken, Duration duration) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(duration);
+        RefreshToken refreshToken = refreshTokenRepository.findByUserId(userId)
+                .map(entity -> entity.update(newRefreshToken, expiresAt))
+                .orElse(new RefreshToken(userId, newRefreshToken, expiresAt));
+
+        refreshTokenRepository.save(refreshToken);
+        currentTokenHashes.put(userId, refreshToken.getTokenHash());
     }
 }
@@ -1,13 +1,16 @@
 package com.modswiskim.springbootlearn.service;
 
 import com.modswiskim.springbootlearn.config.jwt.TokenProvider;
-import com.modswiskim.springbootlearn.domain.User;
+import com.modswiskim.springbootlearn.dto.UserClaims;
+import io.jsonwebtoken.Claims;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 
 @RequiredArgsConstructor
+@Observed(name = "token.service")
 @Service
 public class TokenService {
 
@@ -17,12 +20,14 @@ public class TokenService {
 
     public String createNewAccessToken(String refreshToken) {
         // 토큰 유효성 검사에 실패하면 예외 발생
-        if(!tokenProvider.validToken(refreshToken)) {
+        Claims claims = tokenProvider.getValidClaims(refreshToken);
+        if(claims == null) {
             throw new IllegalArgumentException("Unexpected token");
         }
 
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
-        User user = userService.findById(userId);
+        // 폐기된 토큰인지 확인 (메모리에서 확인되지 않을 때만 인덱스 조회 한 번) 후 캐시된 유저 정보로 발급
+        Long userId = refreshTokenService.findUserIdByRefreshToken(refreshToken, claims.get("id", Long.class));
+        UserClaims user = userService.findClaimsById(userId);
 
         return tokenProvider.generateToken(user, Duration.ofHours(2));
     }
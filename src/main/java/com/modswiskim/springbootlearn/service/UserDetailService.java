@@ -1,6 +1,5 @@
 package com.modswiskim.springbootlearn.service;
 
-import com.modswiskim.springbootlearn.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,12 +10,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserDetailService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
 
-    // 사용자 이름(email)으로 사용자의 정보를 가져오는 메서드
+    // 사용자 이름(email)으로 사용자의 정보를 가져오는 메서드 (캐시에 없을 때만 DB 조회)
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userLookupCache.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException(email));
     }
 }
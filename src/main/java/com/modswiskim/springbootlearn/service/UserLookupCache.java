@@ -0,0 +1,64 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.config.CacheConfig;
+import com.modswiskim.springbootlearn.domain.User;
+import com.modswiskim.springbootlearn.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// 로그인 경로의 이메일 -> 유저 조회 캐시
+// 있는 유저는 usersByEmail 에, 없는 이메일은 missingUserEmails 에 짧게 기억해서
+// 없는 이메일로 반복되는 로그인 시도도 DB 를 조회하지 않는다. 가입 / 정보 변경 시 (커밋 후) evict 로 바로 지운다
+// DB 조회와 두 캐시에 넣는 것은 usersByEmail 의 키 단위 로딩 안에서 한 번에 한다
+// 로딩 중인 키의 evict 는 로딩이 끝날 때까지 기다리므로, 가입 직전에 읽은 "없음" 이 evict 뒤에 캐시에 남지 않는다
+@Component
+public class UserLookupCache {
+
+    private final UserRepository userRepository;
+    private final Cache usersByEmail;
+    private final Cache missingUserEmails;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> usersByEmailStore;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> missingUserEmailsStore;
+
+    public UserLookupCache(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.usersByEmail = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+        this.missingUserEmails = cacheManager.getCache(CacheConfig.MISSING_USER_EMAILS);
+        this.usersByEmailStore = caffeine(usersByEmail);
+        this.missingUserEmailsStore = caffeine(missingUserEmails);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if(email == null) {
+            return Optional.empty();
+        }
+        // 로더가 null 을 돌려주면 usersByEmail 에는 아무것도 넣지 않는다
+        return Optional.ofNullable((User) usersByEmailStore.get(email, this::load));
+    }
+
+    // usersByEmail 을 먼저 지워야 진행 중인 로딩(과 그 안에서 넣은 missingUserEmails)이 끝난 뒤에 missingUserEmails 를 지운다
+    // 트랜잭션 안에서 부르면 두 evict 모두 커밋 후에 실행된다
+    public void evict(String email) {
+        usersByEmail.evict(email);
+        missingUserEmails.evict(email);
+    }
+
+    private User load(Object email) {
+        if(missingUserEmailsStore.getIfPresent(email) != null) {
+            return null;
+        }
+        Optional<User> user = userRepository.findByEmail((String) email);
+        if(user.isEmpty()) {
+            missingUserEmailsStore.put(email, Boolean.TRUE);
+        }
+        return user.orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+}
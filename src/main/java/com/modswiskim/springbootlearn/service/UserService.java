@@ -1,27 +1,38 @@
 package com.modswiskim.springbootlearn.service;
 
+import com.modswiskim.springbootlearn.config.CacheConfig;
 import com.modswiskim.springbootlearn.domain.User;
 import com.modswiskim.springbootlearn.dto.AddUserRequest;
+import com.modswiskim.springbootlearn.dto.UserClaims;
 import com.modswiskim.springbootlearn.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
+@Observed(name = "user.service")
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserLookupCache userLookupCache;
 
-    public Long save(AddUserRequest dto) {
-        // 직접 생성해서 패스워드를 암호화 할 수 있게 수정
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-
-        return userRepository.save(User.builder()
-                .email(dto.getEmail())
-                // 패스워드 암호화
-                .password(encoder.encode(dto.getPassword()))
-                .build()).getId();
+    // 패스워드 암호화는 해시 전용 스레드에서 하고, 끝나면 유저를 저장한다
+    // 해시 대기열이 가득 차면 RejectedExecutionException
+    public CompletableFuture<Long> save(AddUserRequest dto) {
+        return passwordHasher.encode(dto.getPassword())
+                .thenApply(encodedPassword -> {
+                    Long id = userRepository.save(User.builder()
+                            .email(dto.getEmail())
+                            .password(encodedPassword)
+                            .build()).getId();
+                    userLookupCache.evict(dto.getEmail());  // 저장이 커밋된 뒤에 지운다 (없는 이메일로 캐시되어 있었을 수 있다)
+                    return id;
+                });
     }
 
     public User findById(Long userId) {
@@ -29,8 +40,15 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
 
+    // 토큰 발급에 필요한 유저 정보만 캐시에서 조회 (유저 정보가 바뀌면 OAuth2UserCustomService 에서 제거)
+    @Cacheable(cacheNames = CacheConfig.USER_CLAIMS, key = "#userId", sync = true)
+    public UserClaims findClaimsById(Long userId) {
+        User user = findById(userId);
+        return new UserClaims(user.getId(), user.getEmail());
+    }
+
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userLookupCache.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
 }
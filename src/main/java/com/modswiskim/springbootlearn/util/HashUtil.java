@@ -0,0 +1,24 @@
+package com.modswiskim.springbootlearn.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class HashUtil {
+
+    // 문자열의 SHA-256 해시값 반환 : 긴 토큰 문자열 대신 고정 길이 키로 쓰기 위함
+    public static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 문자열의 SHA-256 해시값을 16진수 문자열(64자)로 반환
+    public static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256(value));
+    }
+}
@@ -1,3 +1,3 @@
-INSERT INTO article (title, content, author, created_at, updated_at) VALUES ('제목1', '내용1', 'user1', NOW(), NOW())
-INSERT INTO article (title, content, author, created_at, updated_at) VALUES ('제목2', '내용2', 'user2', NOW(), NOW())
-INSERT INTO article (title, content, author, created_at, updated_at) VALUES ('제목3', '내용3', 'user3', NOW(), NOW())
\ No newline at end of file
+INSERT INTO article (id, title, content, author, version, created_at, updated_at) VALUES (NEXT VALUE FOR article_seq, '제목1', '내용1', 'user1', 0, NOW(), NOW())
+INSERT INTO article (id, title, content, author, version, created_at, updated_at) VALUES (NEXT VALUE FOR article_seq, '제목2', '내용2', 'user2', 0, NOW(), NOW())
+INSERT INTO article (id, title, content, author, version, created_at, updated_at) VALUES (NEXT VALUE FOR article_seq, '제목3', '내용3', 'user3', 0, NOW(), NOW())
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.modswiskim.springbootlearn.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)    // 테스트에서도 Prometheus 레지스트리(/actuator/prometheus)를 등록
+class ActuatorAccessTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @DisplayName("액추에이터 : health 는 누구나, 메트릭은 허용한 주소에서만 조회할 수 있다.")
+    @Test
+    void actuatorAccess() throws Exception {
+        // when & then : 외부 주소
+        mockMvc.perform(get("/actuator/health").with(remoteAddress("203.0.113.7")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddress("203.0.113.7")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(remoteAddress("203.0.113.7")))
+                .andExpect(status().isForbidden());
+
+        // when & then : 허용한 주소 (127.0.0.1)
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddress("127.0.0.1")))
+                .andExpect(status().isOk());
+    }
+
+    private static org.springframework.test.web.servlet.request.RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.modswiskim.springbootlearn.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderConfigTest {
+
+    @DisplayName("chooseStrength : 목표 시간을 넘지 않는 가장 큰 cost 를 10 ~ 16 사이에서 고른다.")
+    @Test
+    void chooseStrength() {
+        long minStrength = TimeUnit.MILLISECONDS.toNanos(50);   // cost 10 의 해시 시간
+
+        // 목표 안에서 두 배씩 올린다 : 50 -> 100 -> 200 ms
+        assertThat(PasswordEncoderConfig.chooseStrength(minStrength, TimeUnit.MILLISECONDS.toNanos(250))).isEqualTo(12);
+        assertThat(PasswordEncoderConfig.chooseStrength(minStrength, TimeUnit.MILLISECONDS.toNanos(200))).isEqualTo(12);
+        // 최소 cost 보다 빠른 목표여도 10 보다 낮추지 않는다
+        assertThat(PasswordEncoderConfig.chooseStrength(minStrength, TimeUnit.MILLISECONDS.toNanos(1))).isEqualTo(10);
+        // 아주 느린 목표여도 16 을 넘지 않는다
+        assertThat(PasswordEncoderConfig.chooseStrength(minStrength, TimeUnit.HOURS.toNanos(1))).isEqualTo(16);
+    }
+}
@@ -0,0 +1,45 @@
+package com.modswiskim.springbootlearn.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticResourceConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ResourceUrlProvider resourceUrlProvider;
+
+    @DisplayName("정적 리소스 : 내용 해시가 붙은 URL 만 1년 동안 캐시하고, 해시 없는 URL 은 매번 다시 확인한다.")
+    @Test
+    void cacheControl() throws Exception {
+        // given : 템플릿에 들어가는 해시가 붙은 URL
+        String versioned = resourceUrlProvider.getForLookupPath("/js/token.js");
+        assertThat(versioned).matches("/js/token-[0-9a-f]{32}\\.js");
+
+        // when & then
+        mockMvc.perform(get(versioned))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public"));
+        mockMvc.perform(get("/js/token.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        mockMvc.perform(get("/img/google_SI.png"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+}
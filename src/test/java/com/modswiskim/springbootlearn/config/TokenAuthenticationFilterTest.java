@@ -0,0 +1,54 @@
+package com.modswiskim.springbootlearn.config;
+
+import com.modswiskim.springbootlearn.config.jwt.JwtFactory;
+import com.modswiskim.springbootlearn.config.jwt.JwtProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 보안 필터 체인을 포함한 MockMvc 로 Authorization 헤더 처리를 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenAuthenticationFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtProperties jwtProperties;
+
+    @DisplayName("doFilterInternal : 'Bearer <토큰>' 헤더는 스킴 대소문자와 앞뒤 공백에 관계없이 인증한다.")
+    @Test
+    void bearerHeader() throws Exception {
+        // given
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+
+        // when & then
+        mockMvc.perform(get("/api/articles").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/articles").header(HttpHeaders.AUTHORIZATION, "bearer  " + token + " "))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("doFilterInternal : 토큰이 없거나 Bearer 스킴이 아니면 인증하지 않는다.")
+    @Test
+    void missingOrOtherScheme() throws Exception {
+        // given
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+
+        // when & then
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/articles").header(HttpHeaders.AUTHORIZATION, "Bearer" + token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/articles").header(HttpHeaders.AUTHORIZATION, "Basic " + token))
+                .andExpect(status().isUnauthorized());
+    }
+}
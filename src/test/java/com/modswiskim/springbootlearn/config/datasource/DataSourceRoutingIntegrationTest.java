@@ -0,0 +1,105 @@
+package com.modswiskim.springbootlearn.config.datasource;
+
+import com.modswiskim.springbootlearn.config.CacheConfig;
+import com.modswiskim.springbootlearn.domain.Article;
+import com.modswiskim.springbootlearn.dto.AddArticleRequest;
+import com.modswiskim.springbootlearn.dto.UpdateArticleRequest;
+import com.modswiskim.springbootlearn.service.BlogService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 두 개를 primary / 복제본으로 두고 JPA + BlogService 를 거쳐 라우팅을 확인한다
+// 복제는 primary 를 SCRIPT 로 떠서 복제본에 RUNSCRIPT 하는 것으로 흉내내고, 그 이후 primary 의 변경은 복제본에 없다(복제 지연)
+@SpringBootTest(properties = {
+        "datasource-routing.enabled=true",
+        "datasource-routing.primary.url=jdbc:h2:mem:routing-it-primary;DB_CLOSE_DELAY=-1",
+        "datasource-routing.replicas[0].url=jdbc:h2:mem:routing-it-replica;DB_CLOSE_DELAY=-1",
+        "datasource-routing.read-your-writes-window=1h"})
+class DataSourceRoutingIntegrationTest {
+
+    private static final String AUTHOR = "writer@gmail.com";
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    // 시작할 때 읽기 전용 조회(검색 색인, 조회수)가 복제본에서 실행되므로 스키마가 만들어진 뒤 한 번 복제
+    @TestConfiguration
+    static class InitialReplication {
+        @Bean
+        SmartInitializingSingleton replicateOnStartup(ReadWriteRoutingDataSource routingDataSource) {
+            return () -> replicate(routingDataSource);
+        }
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("방금 수정한 글은 primary 에서, 그 외의 글은 복제본에서 읽는다.")
+    @Test
+    void readYourWrites() {
+        // given : 수정할 글과, 이벤트 없이 primary 에만 바뀌는 글을 만들고 복제합니다
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(AUTHOR, null, List.of()));
+        Article article = blogService.save(new AddArticleRequest("before", "before"), AUTHOR);
+        JdbcTemplate primary = new JdbcTemplate(target(routingDataSource, ReadWriteRoutingDataSource.PRIMARY));
+        long untouchedId = 1_000_000L;
+        primary.update("INSERT INTO article (id, title, content, author, version, created_at, updated_at)"
+                + " VALUES (?, 'replicated', 'content', 'other', 0, NOW(), NOW())", untouchedId);
+        replicate(routingDataSource);
+        primary.update("UPDATE article SET title = 'not replicated yet' WHERE id = ?", untouchedId);
+
+        // when : 글을 수정한 뒤 (수정이 복제본에 반영되기 전에) 캐시를 비우고 다시 조회합니다
+        blogService.update(article.getId(), new UpdateArticleRequest("after", "after"), null);
+        cacheManager.getCache(CacheConfig.ARTICLES).clear();
+        SecurityContextHolder.clearContext();   // 수정 후 토큰 없이 글 페이지로 이동하는 경우
+
+        // then : 수정한 글은 primary 의 새 내용, 다른 글은 복제본의 내용입니다
+        assertThat(blogService.findById(article.getId()).getTitle()).isEqualTo("after");
+        assertThat(blogService.findById(untouchedId).getTitle()).isEqualTo("replicated");
+    }
+
+    private static void replicate(ReadWriteRoutingDataSource routingDataSource) {
+        try {
+            Path script = Files.createTempFile("routing-it", ".sql");
+            new JdbcTemplate(target(routingDataSource, ReadWriteRoutingDataSource.PRIMARY))
+                    .execute("SCRIPT TO '" + script + "'");
+            JdbcTemplate replica = new JdbcTemplate(target(routingDataSource, ReadWriteRoutingDataSource.REPLICA_PREFIX + 0));
+            replica.execute("DROP ALL OBJECTS");
+            replica.execute("RUNSCRIPT FROM '" + script + "'");
+            Files.delete(script);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DataSource target(ReadWriteRoutingDataSource routingDataSource, String key) {
+        return routingDataSource.getResolvedDataSources().get(key);
+    }
+}
@@ -0,0 +1,91 @@
+package com.modswiskim.springbootlearn.config.datasource;
+
+import com.modswiskim.springbootlearn.service.ArticleChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 인스턴스 두 개를 primary / 복제본으로 두고, 각 DB 에 자기 이름을 넣어 어디로 라우팅되었는지 확인한다
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing-primary");
+        DataSource replica = h2("routing-replica");
+
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setReadYourWritesWindow(Duration.ofMinutes(1));
+        tracker = new ReadYourWritesTracker(properties);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(replica), tracker);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+    }
+
+    @DisplayName("readOnly 트랜잭션은 복제본으로, 그 외 트랜잭션은 primary 로 보낸다.")
+    @Test
+    void routeByReadOnly() {
+        // when
+        String readOnlyTarget = readOnly.execute(status -> node());
+        String readWriteTarget = readWrite.execute(status -> node());
+
+        // then
+        assertThat(readOnlyTarget).isEqualTo("routing-replica");
+        assertThat(readWriteTarget).isEqualTo("routing-primary");
+    }
+
+    @DisplayName("방금 바뀐 글을 읽는 readOnly 트랜잭션은 primary 로 보낸다.")
+    @Test
+    void readYourWrites() {
+        // given
+        tracker.onArticleChanged(ArticleChangedEvent.deleted(1L));
+
+        // when
+        String writtenTarget = tracker.readArticle(1L, () -> readOnly.execute(status -> node()));
+        String otherTarget = tracker.readArticle(2L, () -> readOnly.execute(status -> node()));
+
+        // then
+        assertThat(writtenTarget).isEqualTo("routing-primary");
+        assertThat(otherTarget).isEqualTo("routing-replica");
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(64))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
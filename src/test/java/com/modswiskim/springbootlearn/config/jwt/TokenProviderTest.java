@@ -81,6 +81,53 @@ class TokenProviderTest {
         assertThat(result).isTrue();
     }
 
+    @DisplayName("verify : 다른 비밀값으로 서명된 토큰은 예외 없이 서명 불일치로 판정한다.")
+    @Test
+    void verify_invalidSignature() {
+        // given
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setIssuer(jwtProperties.getIssuer());
+        otherProperties.setSecretKey("other" + jwtProperties.getSecretKey());
+        String token = JwtFactory.withDefaultValues()
+                .createToken(otherProperties);
+
+        // when
+        TokenVerification result = tokenProvider.verify(token);
+
+        // then
+        assertThat(result.status()).isEqualTo(TokenVerification.Status.INVALID_SIGNATURE);
+        assertThat(result.claims()).isNull();
+    }
+
+    @DisplayName("verify : JWT 형식이 아닌 값과 만료된 토큰은 실패 사유를 구분해 돌려준다.")
+    @Test
+    void verify_malformedAndExpired() {
+        // given
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        // when & then
+        assertThat(tokenProvider.verify("not-a-jwt").status()).isEqualTo(TokenVerification.Status.MALFORMED);
+        assertThat(tokenProvider.verify(null).status()).isEqualTo(TokenVerification.Status.MISSING);
+        assertThat(tokenProvider.verify(expiredToken).status()).isEqualTo(TokenVerification.Status.EXPIRED);
+    }
+
+    @DisplayName("verify : nbf 가 아직 오지 않은 토큰은 만료와 구분해 돌려준다.")
+    @Test
+    void verify_notYetValid() {
+        // given : nbf 는 초 단위
+        long notBefore = (System.currentTimeMillis() + Duration.ofHours(1).toMillis()) / 1000;
+        String token = JwtFactory.builder()
+                .claims(Map.of("nbf", notBefore))
+                .build()
+                .createToken(jwtProperties);
+
+        // when & then
+        assertThat(tokenProvider.verify(token).status()).isEqualTo(TokenVerification.Status.NOT_YET_VALID);
+    }
+
     @DisplayName("getAuthentication : 토큰 기반으로 인증 정보를 가져올 수 있다.")
     @Test
     void getAuthentication() {
@@ -0,0 +1,26 @@
+package com.modswiskim.springbootlearn.config.query;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 테스트용 : action 이 실행하는 SQL 수가 max 이하인지 확인
+//
+// ResultActions result = assertMaxQueries(1, () -> mockMvc.perform(get(url)));
+//
+// 현재 스레드의 SQL 만 센다. 다른 스레드(예: 회원 가입의 패스워드 해시 실행기)에서 실행된 SQL 은 포함되지 않는다
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(int max, Callable<T> action) throws Exception {
+        try(QueryCounter.Scope scope = QueryCounter.start()) {
+            T result = action.call();
+            assertThat(scope.count())
+                    .as("SQL statements executed")
+                    .isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+}
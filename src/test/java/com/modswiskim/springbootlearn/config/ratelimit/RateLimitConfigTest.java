@@ -0,0 +1,60 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// RateLimiterBackend 빈을 등록하면 기본 메모리 버킷 대신 그 빈을 사용하는지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class RateLimitConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    RecordingBackend backend;
+
+    @TestConfiguration
+    static class CustomBackend {
+        @Bean
+        RecordingBackend recordingBackend() {
+            return new RecordingBackend();
+        }
+    }
+
+    // 받은 키를 기록하고 모든 요청을 거절하는 저장소
+    static class RecordingBackend implements RateLimiterBackend {
+        final List<String> keys = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+            keys.add(key);
+            return new RateLimitDecision(false, 0, 1_000_000_000L, 1_000_000_000L);
+        }
+    }
+
+    @DisplayName("rateLimitFilter : 등록한 RateLimiterBackend 빈으로 한도를 확인한다.")
+    @Test
+    void customBackend() throws Exception {
+        // when : 제한 경로로 요청합니다
+        mockMvc.perform(post("/api/token"))
+                .andExpect(status().isTooManyRequests());
+
+        // then : 등록한 저장소가 호출되었습니다
+        assertThat(backend.keys).isNotEmpty();
+    }
+}
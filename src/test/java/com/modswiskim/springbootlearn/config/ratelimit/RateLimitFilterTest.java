@@ -0,0 +1,75 @@
+package com.modswiskim.springbootlearn.config.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(new RateLimitProperties.Route("token", "/api/token", List.of("POST"), 2, Duration.ofMinutes(1))));
+        filter = new RateLimitFilter(properties,
+                new InMemoryRateLimiterBackend(properties.getMaxKeys(), properties.getIdleTimeout()),
+                new SimpleMeterRegistry());
+    }
+
+    @DisplayName("doFilter : 한도를 넘은 클라이언트에게는 429 와 Retry-After 를 응답한다.")
+    @Test
+    void doFilter_limited() throws Exception {
+        // given : 같은 IP 에서 한도(2)만큼 요청합니다
+        for(int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = perform("POST", "/api/token", "10.0.0.1");
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo(String.valueOf(1 - i));
+        }
+
+        // when : 같은 IP 와 다른 IP 에서 한 번 더 요청합니다
+        MockHttpServletResponse limited = perform("POST", "/api/token", "10.0.0.1");
+        MockHttpServletResponse other = perform("POST", "/api/token", "10.0.0.2");
+
+        // then : 같은 IP 만 거절되고, 다시 요청할 수 있을 때까지의 초를 알려줍니다
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader(RateLimitFilter.LIMIT_HEADER)).isEqualTo("2");
+        assertThat(Long.parseLong(limited.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 30L);
+        assertThat(other.getStatus()).isEqualTo(200);
+    }
+
+    @DisplayName("doFilter : 설정한 경로가 아니면 제한하지 않는다.")
+    @Test
+    void doFilter_unmatched() throws Exception {
+        // when
+        MockHttpServletResponse response = null;
+        for(int i = 0; i < 5; i++) {
+            response = perform("GET", "/api/token", "10.0.0.1");
+        }
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(RateLimitFilter.LIMIT_HEADER)).isNull();
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(uri);    // AntPathRequestMatcher 는 서블릿 경로로 비교
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+}
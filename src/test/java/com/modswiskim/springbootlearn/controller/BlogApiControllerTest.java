@@ -1,12 +1,17 @@
 package com.modswiskim.springbootlearn.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.modswiskim.springbootlearn.config.ArticleBatchProperties;
 import com.modswiskim.springbootlearn.domain.Article;
 import com.modswiskim.springbootlearn.domain.User;
 import com.modswiskim.springbootlearn.dto.AddArticleRequest;
 import com.modswiskim.springbootlearn.dto.UpdateArticleRequest;
+import com.modswiskim.springbootlearn.repository.ArticleViewCountRepository;
 import com.modswiskim.springbootlearn.repository.BlogRepository;
 import com.modswiskim.springbootlearn.repository.UserRepository;
+import com.modswiskim.springbootlearn.service.ArticleSearchService;
+import com.modswiskim.springbootlearn.service.ArticleViewCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,18 +19,22 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.security.Principal;
+import java.util.Collections;
 import java.util.List;
 
+import static com.modswiskim.springbootlearn.config.query.QueryCountAssertions.assertMaxQueries;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -50,6 +59,18 @@ class BlogApiControllerTest {
 
     @Autowired
     UserRepository userRepository;
+
+    @Autowired
+    ArticleSearchService articleSearchService;
+
+    @Autowired
+    ArticleViewCounter articleViewCounter;
+
+    @Autowired
+    ArticleViewCountRepository articleViewCountRepository;
+
+    @Autowired
+    ArticleBatchProperties articleBatchProperties;
     User user;
 
     @BeforeEach     // 테스트 실행 전 실행하는 메서드
@@ -103,6 +124,57 @@ class BlogApiControllerTest {
         assertThat(articles.get(0).getContent()).isEqualTo(content);
     }
 
+    @DisplayName("addArticles : 블로그 글 일괄 추가 결과를 항목별로 돌려준다.")
+    @Test
+    public void addArticles() throws Exception {
+        // given : 올바른 글 2개와 제목이 없는 글 1개를 준비합니다
+        final String url = "/api/articles/batch";
+        final String requestBody = objectMapper.writeValueAsString(List.of(
+                new AddArticleRequest("title1", "content1"),
+                new AddArticleRequest(null, "content2"),
+                new AddArticleRequest("title3", "content3")));
+
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .principal(principal)
+                .content(requestBody));
+
+        // then : 제목이 없는 글만 거절되고 나머지는 저장됩니다
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+
+        assertThat(blogRepository.findAll()).hasSize(2);
+    }
+
+    @DisplayName("addArticles : 최대 개수를 넘는 일괄 추가는 413 으로 거절한다.")
+    @Test
+    public void addArticles_tooLarge() throws Exception {
+        // given : 최대 개수보다 하나 많은 글을 준비합니다
+        final String url = "/api/articles/batch";
+        final String requestBody = objectMapper.writeValueAsString(
+                Collections.nCopies(articleBatchProperties.getMaxItems() + 1, new AddArticleRequest("title", "content")));
+
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .principal(principal)
+                .content(requestBody));
+
+        // then : 아무것도 저장하지 않습니다
+        result.andExpect(status().isPayloadTooLarge());
+        assertThat(blogRepository.findAll()).isEmpty();
+    }
+
     @DisplayName("findAllArticles : 블로그 글 목록 조회에 성공한다.")
     @Test
     public void findAllArticles() throws Exception {
@@ -121,6 +193,122 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$[0].title").value(savedArticle.getTitle()));
     }
 
+    @DisplayName("findArticlePage : 커서를 따라 블로그 글 목록을 나눠서 조회한다.")
+    @Test
+    public void findArticlePage() throws Exception {
+        // given : 블로그 글 3개를 저장합니다
+        final String url = "/api/articles";
+        createDefaultArticle();
+        createDefaultArticle();
+        createDefaultArticle();
+
+        // when : 2개씩 첫 페이지를 조회합니다
+        MvcResult firstPage = mockMvc.perform(get(url).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(2))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn();
+        String next = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.next");
+
+        // then : 다음 커서로 조회하면 남은 1개만 반환되고 더 이상 커서가 없습니다 (쿼리 한 번)
+        assertMaxQueries(1, () -> mockMvc.perform(get(url).param("size", "2").param("cursor", next)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(1))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @DisplayName("findArticlePage : 형식이 틀리거나 서명이 맞지 않는 커서는 400 으로 거절한다.")
+    @Test
+    public void findArticlePage_invalidCursor() throws Exception {
+        // given : 올바른 커서를 하나 받아 둡니다
+        final String url = "/api/articles";
+        createDefaultArticle();
+        createDefaultArticle();
+        String next = JsonPath.read(mockMvc.perform(get(url).param("size", "1"))
+                .andReturn().getResponse().getContentAsString(), "$.next");
+        String tampered = (next.charAt(0) == 'A' ? 'B' : 'A') + next.substring(1);
+
+        // when & then : Base64 가 아닌 커서, 서명이 맞지 않는 커서
+        mockMvc.perform(get(url).param("size", "1").param("cursor", "not a cursor!"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("size", "1").param("cursor", tampered))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("exportArticles : 블로그 글 전체를 한 줄에 하나씩 NDJSON으로 내보낸다.")
+    @Test
+    public void exportArticles() throws Exception {
+        // given
+        final String url = "/api/articles/export";
+        Article savedArticle = createDefaultArticle();
+        createDefaultArticle();
+
+        // when
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then : 저장한 글 수만큼 줄이 있고 각 줄이 글 하나의 JSON입니다
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        assertThat(lines).hasSize(2);
+        assertThat(JsonPath.<String>read(lines[0], "$.title")).isEqualTo(savedArticle.getTitle());
+    }
+
+    @DisplayName("searchArticles : 제목이 일치하는 글을 먼저, 마지막 단어는 접두어로 검색한다.")
+    @Test
+    public void searchArticles() throws Exception {
+        // given : 제목과 본문에 검색어가 있는 글을 하나씩 저장하고 색인을 다시 만듭니다
+        final String url = "/api/articles/search";
+        Article inTitle = blogRepository.save(Article.builder()
+                .title("spring search")
+                .content("content")
+                .author(user.getUsername())
+                .build());
+        Article inContent = blogRepository.save(Article.builder()
+                .title("title")
+                .content("spring searching guide")
+                .author(user.getUsername())
+                .build());
+        articleSearchService.rebuild();
+
+        // when : 마지막 단어를 일부만 입력해 검색합니다
+        final ResultActions resultActions = mockMvc.perform(get(url)
+                .param("q", "Spring sear")
+                .param("size", "10"));
+
+        // then : 두 글 모두 검색되고 제목에 있는 글이 먼저입니다
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.hits[0].id").value(inTitle.getId()))
+                .andExpect(jsonPath("$.hits[1].id").value(inContent.getId()));
+    }
+
+    @DisplayName("searchArticles : size 나 page 가 허용 범위를 벗어나면 400 으로 거절한다.")
+    @Test
+    public void searchArticles_outOfRange() throws Exception {
+        // given : 기본 설정은 size 최대 100, (page + 1) * size 최대 10,000
+        final String url = "/api/articles/search";
+
+        // when & then : size 하한/상한
+        mockMvc.perform(get(url).param("q", "spring").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("q", "spring").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        // when & then : 음수 page, 결과 범위를 넘는 page
+        mockMvc.perform(get(url).param("q", "spring").param("page", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("q", "spring").param("page", "100").param("size", "100"))
+                .andExpect(status().isBadRequest());
+
+        // when & then : 경계값은 허용
+        mockMvc.perform(get(url).param("q", "spring").param("page", "99").param("size", "100"))
+                .andExpect(status().isOk());
+    }
+
     @DisplayName("findArticle : 블로그 글 조회에 성공한다.")
     @Test
     public void findArticle() throws Exception {
@@ -138,6 +326,93 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$.title").value(savedArticle.getTitle()));
     }
 
+    @DisplayName("findArticle : ETag 가 같은 조건부 요청에는 본문 없이 304 를 응답한다.")
+    @Test
+    public void findArticle_notModified() throws Exception {
+        // given : 블로그 글을 저장하고 한 번 조회해 ETag 를 받습니다
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+
+        String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when : 받은 ETag 로 다시 조회합니다
+        final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then : 304 이고 본문이 비어 있습니다
+        resultActions.andExpect(status().isNotModified());
+        assertThat(eTag).isNotBlank();
+        assertThat(resultActions.andReturn().getResponse().getContentLength()).isZero();
+    }
+
+    @DisplayName("findPopularArticles : 반영된 조회수로 상위 글을 조회한다.")
+    @Test
+    public void findPopularArticles() throws Exception {
+        // given : 블로그 글을 저장하고 세 번 조회한 뒤 조회수를 반영합니다
+        Article savedArticle = createDefaultArticle();
+        for(int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/articles/{id}", savedArticle.getId()))
+                    .andExpect(status().isOk());
+        }
+        articleViewCounter.flush();
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get("/api/articles/popular")
+                .param("limit", "100"));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + savedArticle.getId() + ")].views").value(3));
+    }
+
+    @DisplayName("findPopularArticles : limit 은 1 ~ 상위 목록 크기로 맞춰 응답한다.")
+    @Test
+    public void findPopularArticles_limitClamped() throws Exception {
+        // given : 조회수가 있는 글 두 개 (앞선 테스트의 조회수가 남아 있을 수 있다)
+        for(int i = 0; i < 2; i++) {
+            Article savedArticle = createDefaultArticle();
+            mockMvc.perform(get("/api/articles/{id}", savedArticle.getId()))
+                    .andExpect(status().isOk());
+        }
+        articleViewCounter.flush();
+
+        // when & then : 1 보다 작은 limit 은 1, 상위 목록 크기(기본 100)보다 큰 limit 은 상위 목록 전체
+        mockMvc.perform(get("/api/articles/popular").param("limit", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        String all = mockMvc.perform(get("/api/articles/popular").param("limit", "100"))
+                .andReturn().getResponse().getContentAsString();
+        String clamped = mockMvc.perform(get("/api/articles/popular").param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(clamped).isEqualTo(all);
+        assertThat(JsonPath.<List<Object>>read(clamped, "$")).hasSizeGreaterThanOrEqualTo(2);
+    }
+
+    @DisplayName("findPopularArticles : 삭제 처리 뒤에 들어온 조회는 반영하지 않는다.")
+    @Test
+    public void findPopularArticles_viewAfterDelete() throws Exception {
+        // given : 글을 삭제한 뒤, 삭제 전에 시작된 요청의 조회가 늦게 집계됩니다
+        Article savedArticle = createDefaultArticle();
+        mockMvc.perform(delete("/api/articles/{id}", savedArticle.getId()))
+                .andExpect(status().isOk());
+        articleViewCounter.increment(savedArticle.getId());
+
+        // when
+        articleViewCounter.flush();
+
+        // then : 삭제된 글의 조회수 행이 만들어지지 않습니다
+        assertThat(articleViewCountRepository.findViews(List.of(savedArticle.getId()))).isEmpty();
+        mockMvc.perform(get("/api/articles/popular").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + savedArticle.getId() + ")]").isEmpty());
+    }
+
     @DisplayName("deleteArticle : 블로그 글 삭제에 성공한다.")
     @Test
     public void deleteArticle() throws Exception {
@@ -181,6 +456,74 @@ class BlogApiControllerTest {
         assertThat(article.getContent()).isEqualTo(newContent);
     }
 
+    @DisplayName("updateArticle : If-Match 가 현재 ETag 와 다르면 수정하지 않고 412 를 응답한다.")
+    @Test
+    public void updateArticle_ifMatch() throws Exception {
+        // given : 블로그 글을 저장하고 한 번 조회해 ETag 를 받습니다
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+
+        String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when : 받은 ETag 로 한 번 수정한 뒤, 같은 ETag 로 다시 수정합니다
+        String newETag = mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("first", "first"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        ResultActions stale = mockMvc.perform(put(url, savedArticle.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("second", "second"))));
+
+        // then : 두 번째 수정은 412 이고 현재 ETag 를 알려주며, 글은 첫 번째 수정 내용 그대로입니다
+        stale.andExpect(status().isPreconditionFailed());
+        assertThat(newETag).isNotEqualTo(eTag);
+        assertThat(stale.andReturn().getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(newETag);
+
+        Article article = blogRepository.findById(savedArticle.getId()).get();
+
+        assertThat(article.getTitle()).isEqualTo("first");
+        assertThat(article.getVersion()).isEqualTo(1L);
+    }
+
+    @DisplayName("updateArticle : If-Match 는 강한 비교로, 목록 중 하나가 현재 ETag 와 같을 때만 수정한다.")
+    @Test
+    public void updateArticle_ifMatchStrongList() throws Exception {
+        // given : 블로그 글을 저장하고 한 번 조회해 ETag 를 받습니다
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+
+        String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when & then : 약한 ETag 는 값이 같아도 412 입니다
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, "W/" + eTag)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("weak", "weak"))))
+                .andExpect(status().isPreconditionFailed());
+
+        // when & then : 목록에 현재 ETag 가 있으면 수정합니다
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, "\"other\", W/" + eTag + ", " + eTag)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("listed", "listed"))))
+                .andExpect(status().isOk());
+
+        assertThat(blogRepository.findById(savedArticle.getId()).get().getTitle()).isEqualTo("listed");
+    }
+
     // 글 만드는 로직
     private Article createDefaultArticle() {
         return blogRepository.save(Article.builder()
@@ -8,6 +8,8 @@ import com.modswiskim.springbootlearn.domain.User;
 import com.modswiskim.springbootlearn.dto.CreateAccessTokenRequest;
 import com.modswiskim.springbootlearn.repository.RefreshTokenRepository;
 import com.modswiskim.springbootlearn.repository.UserRepository;
+import com.modswiskim.springbootlearn.service.RefreshTokenPurgeJob;
+import com.modswiskim.springbootlearn.service.RefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,8 +22,11 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -43,6 +48,10 @@ class TokenApiControllerTest {
     UserRepository userRepository;
     @Autowired
     RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    RefreshTokenService refreshTokenService;
+    @Autowired
+    RefreshTokenPurgeJob refreshTokenPurgeJob;
 
     @BeforeEach
     public void mockMvcSetUp() {
@@ -83,4 +92,51 @@ class TokenApiControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.accessToken").isNotEmpty());
     }
-}
\ No newline at end of file
+
+    @DisplayName("rotate : 리프레시 토큰을 교체하면 이전 토큰은 더 이상 조회되지 않습니다.")
+    @Test
+    public void rotateRefreshToken() {
+        // given
+        User testuser = userRepository.save(User.builder()
+                .email("user@email.com")
+                .password("test")
+                .build());
+        String oldRefreshToken = JwtFactory.builder()
+                .claims(Map.of("id", testuser.getId(), "version", 1))
+                .build()
+                .createToken(jwtProperties);
+        String newRefreshToken = JwtFactory.builder()
+                .claims(Map.of("id", testuser.getId(), "version", 2))
+                .build()
+                .createToken(jwtProperties);
+        refreshTokenService.rotate(testuser.getId(), oldRefreshToken, Duration.ofDays(14));
+
+        // when
+        refreshTokenService.rotate(testuser.getId(), newRefreshToken, Duration.ofDays(14));
+
+        // then
+        assertEquals(testuser.getId(), refreshTokenService.findUserIdByRefreshToken(newRefreshToken, testuser.getId()));
+        assertThatThrownBy(() -> refreshTokenService.findUserIdByRefreshToken(oldRefreshToken, testuser.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("purge : 만료된 리프레시 토큰만 나눠서 삭제합니다.")
+    @Test
+    public void purgeExpiredRefreshTokens() {
+        // given : 만료된 토큰 3개와 유효한 토큰 1개를 저장합니다
+        refreshTokenRepository.deleteAll();
+        LocalDateTime now = LocalDateTime.now();
+        for(long userId = 1; userId <= 3; userId++) {
+            refreshTokenRepository.save(new RefreshToken(userId, "expired" + userId, now.minusDays(1)));
+        }
+        RefreshToken valid = refreshTokenRepository.save(new RefreshToken(4L, "valid", now.plusDays(1)));
+
+        // when
+        long purged = refreshTokenPurgeJob.purge(now);
+
+        // then
+        assertEquals(3, purged);
+        assertEquals(1, refreshTokenRepository.count());
+        assertTrue(refreshTokenRepository.findById(valid.getId()).isPresent());
+    }
+}
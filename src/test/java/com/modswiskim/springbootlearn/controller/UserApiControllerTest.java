@@ -0,0 +1,75 @@
+package com.modswiskim.springbootlearn.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 해시 스레드 1개, 대기열 1칸으로 줄인 풀을 멈춰 둔 해시 작업으로 채운다
+@SpringBootTest(properties = {
+        "password-hashing.threads=1",
+        "password-hashing.queue-capacity=1",
+        "password-hashing.retry-after=3s"})
+@AutoConfigureMockMvc
+class UserApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    BCryptPasswordEncoder encoder;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void blockHashing() throws InterruptedException {
+        when(encoder.encode(anyString())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return "hashed";
+        });
+    }
+
+    @AfterEach
+    void releaseHashing() {
+        release.countDown();
+    }
+
+    @DisplayName("signup : 해시 풀과 대기열이 가득 차면 503 과 Retry-After 를 응답한다.")
+    @Test
+    void signup_saturated() throws Exception {
+        // given : 해시 스레드와 대기열을 하나씩 채웁니다
+        signup("user1@gmail.com").andExpect(request().asyncStarted());
+        signup("user2@gmail.com").andExpect(request().asyncStarted());
+
+        // when
+        ResultActions result = signup("user3@gmail.com");
+
+        // then
+        result.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+    }
+
+    private ResultActions signup(String email) throws Exception {
+        return mockMvc.perform(post("/user")
+                .param("email", email)
+                .param("password", "password"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.modswiskim.springbootlearn.service;
+
+import com.modswiskim.springbootlearn.config.CacheConfig;
+import com.modswiskim.springbootlearn.config.LocalCacheProperties;
+import com.modswiskim.springbootlearn.domain.User;
+import com.modswiskim.springbootlearn.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UserLookupCacheTest {
+
+    private static final String EMAIL = "user@gmail.com";
+
+    private UserRepository userRepository;
+    private UserLookupCache userLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userLookupCache = new UserLookupCache(userRepository, new CacheConfig(new LocalCacheProperties()).cacheManager());
+    }
+
+    @DisplayName("findByEmail : 있는 유저는 한 번만 DB 에서 조회한다.")
+    @Test
+    void findByEmail_hit() {
+        // given
+        User user = User.builder().email(EMAIL).password("test").build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // when
+        Optional<User> first = userLookupCache.findByEmail(EMAIL);
+        Optional<User> second = userLookupCache.findByEmail(EMAIL);
+
+        // then
+        assertThat(first).containsSame(user);
+        assertThat(second).containsSame(user);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @DisplayName("findByEmail : 없는 이메일도 기억하고, 가입 후 evict 하면 다시 조회한다.")
+    @Test
+    void findByEmail_missingThenEvict() {
+        // given : 없는 이메일로 두 번 조회합니다
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        assertThat(userLookupCache.findByEmail(EMAIL)).isEmpty();
+        assertThat(userLookupCache.findByEmail(EMAIL)).isEmpty();
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+
+        // when : 가입한 뒤 evict 합니다
+        User user = User.builder().email(EMAIL).password("test").build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        userLookupCache.evict(EMAIL);
+
+        // then
+        assertThat(userLookupCache.findByEmail(EMAIL)).containsSame(user);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @DisplayName("findByEmail : 조회 중에 가입하고 evict 해도 없는 이메일로 남지 않는다.")
+    @Test
+    void findByEmail_racingSignup() throws Exception {
+        // given : 조회가 DB 에서 "없음" 을 읽은 채로 멈춰 있습니다
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        User user = User.builder().email(EMAIL).password("test").build();
+        when(userRepository.findByEmail(EMAIL))
+                .thenAnswer(invocation -> {
+                    loaded.countDown();
+                    assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.of(user));
+        Thread lookup = new Thread(() -> userLookupCache.findByEmail(EMAIL));
+        lookup.start();
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when : 그 사이에 가입이 커밋되어 evict 하고, evict 가 끝나거나 로딩을 기다리기 시작하면 조회를 마저 진행합니다
+        Thread signup = new Thread(() -> userLookupCache.evict(EMAIL));
+        signup.start();
+        while(signup.isAlive() && signup.getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        lookup.join();
+        signup.join();
+
+        // then : 다음 조회는 DB 에서 가입한 유저를 읽습니다
+        assertThat(userLookupCache.findByEmail(EMAIL)).containsSame(user);
+    }
+}